@@ -0,0 +1,273 @@
+package com.cydeo.benchmark;
+
+import com.cydeo.client.ProjectClient;
+import com.cydeo.client.UserClient;
+import com.cydeo.config.BatchProperties;
+import com.cydeo.config.CacheConfig;
+import com.cydeo.config.CacheProperties;
+import com.cydeo.config.KeycloakProperties;
+import com.cydeo.config.PaginationProperties;
+import com.cydeo.dto.ProjectResponseDTO;
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.dto.UserResponseDTO;
+import com.cydeo.entity.Task;
+import com.cydeo.enums.Status;
+import com.cydeo.repository.TaskRepository;
+import com.cydeo.service.TaskCounterService;
+import com.cydeo.service.impl.KeycloakServiceImpl;
+import com.cydeo.service.impl.ProjectServiceImpl;
+import com.cydeo.service.impl.TaskServiceImpl;
+import com.cydeo.service.impl.UserServiceImpl;
+import com.cydeo.util.DependencyMetrics;
+import com.cydeo.util.MapperUtil;
+import com.cydeo.util.ParallelExecutor;
+import com.cydeo.util.RequestMemo;
+import com.cydeo.util.TaskExportWriter;
+import com.cydeo.util.TaskMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.keycloak.KeycloakPrincipal;
+import org.keycloak.adapters.RefreshableKeycloakSecurityContext;
+import org.keycloak.adapters.springsecurity.account.SimpleKeycloakAccount;
+import org.keycloak.adapters.springsecurity.token.KeycloakAuthenticationToken;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.ClientsResource;
+import org.keycloak.admin.client.resource.RealmResource;
+import org.keycloak.admin.client.resource.RoleMappingResource;
+import org.keycloak.admin.client.resource.RoleScopeResource;
+import org.keycloak.admin.client.resource.UserResource;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.AccessToken;
+import org.keycloak.representations.idm.ClientRepresentation;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.validation.Validation;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessCheckBenchmark {
+
+    private static final String REALM = "cydeo-dev";
+    private static final String CLIENT_ID = "ticketing-app";
+    private static final String CLIENT_UUID = "ticketing-app-uuid";
+    private static final String MANAGER = "manager@cydeo.com";
+    private static final String EMPLOYEE = "employee@cydeo.com";
+
+    @Param({"Manager", "Employee"})
+    private String role;
+
+    @Param({"hit", "miss"})
+    private String cache;
+
+    private TaskServiceImpl taskService;
+    private ParallelExecutor parallelExecutor;
+    private KeycloakAuthenticationToken authentication;
+    private Cache<String, List<String>> userClientRolesCache;
+    private Cache<String, ProjectResponseDTO> projectManagerCache;
+
+    @Setup
+    public void setUp() {
+
+        Task task = new Task();
+        task.setId(1L);
+        task.setTaskCode("T0001");
+        task.setTaskSubject("Dependencies");
+        task.setTaskStatus(Status.OPEN);
+        task.setAssignedDate(LocalDate.now());
+        task.setProjectCode("SP001");
+        task.setAssignedEmployee(EMPLOYEE);
+
+        authentication = authentication("Manager".equals(role) ? MANAGER : EMPLOYEE);
+
+        TaskRepository taskRepository = stub(TaskRepository.class, (proxy, method, args) ->
+                "findByTaskCode".equals(method.getName()) ? Optional.of(task) : null);
+
+        TaskCounterService taskCounterService = stub(TaskCounterService.class, (proxy, method, args) -> null);
+
+        ProjectClient projectClient = stub(ProjectClient.class, (proxy, method, args) ->
+                "getManagerByProjectCode".equals(method.getName())
+                        ? ResponseEntity.ok(ProjectResponseDTO.builder().success(true).data(MANAGER).build())
+                        : ResponseEntity.ok(ProjectResponseDTO.builder().success(true).data(true).build()));
+
+        UserClient userClient = stub(UserClient.class, (proxy, method, args) ->
+                ResponseEntity.ok(UserResponseDTO.builder().success(true).data(true).build()));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CacheConfig cacheConfig = new CacheConfig(cacheProperties(), meterRegistry);
+        userClientRolesCache = cacheConfig.userClientRolesCache();
+        projectManagerCache = cacheConfig.projectManagerCache();
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        RequestMemo requestMemo = new RequestMemo();
+
+        KeycloakProperties keycloakProperties = new KeycloakProperties();
+        keycloakProperties.setRealm(REALM);
+        keycloakProperties.setClientId(CLIENT_ID);
+
+        KeycloakServiceImpl keycloakService = new KeycloakServiceImpl(keycloakProperties, keycloak(),
+                userClientRolesCache, cacheConfig.clientRoleMembersCache(), new DependencyMetrics(meterRegistry), requestMemo);
+        keycloakService.refreshClientUuid();
+
+        ProjectServiceImpl projectService = new ProjectServiceImpl(projectClient, keycloakService,
+                projectManagerCache, cacheConfig.projectExistsCache(), cacheConfig.lastKnownManagerCache(),
+                circuitBreakerRegistry, bulkheadRegistry, requestMemo);
+
+        UserServiceImpl userService = new UserServiceImpl(userClient, keycloakService, cacheConfig.userCheckCache(),
+                circuitBreakerRegistry, bulkheadRegistry, requestMemo, false);
+
+        PlatformTransactionManager transactionManager = stub(PlatformTransactionManager.class, (proxy, method, args) ->
+                "getTransaction".equals(method.getName()) ? new SimpleTransactionStatus() : null);
+
+        parallelExecutor = new ParallelExecutor(8, 32, 100);
+
+        taskService = new TaskServiceImpl(taskRepository, new MapperUtil(new ModelMapper(), new TaskMapper()),
+                projectService, userService, keycloakService, parallelExecutor,
+                Validation.buildDefaultValidatorFactory().getValidator(), new PaginationProperties(), new BatchProperties(),
+                new TaskExportWriter(new ObjectMapper()), transactionManager, taskCounterService, true);
+
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelExecutor.shutdown();
+    }
+
+    @Benchmark
+    public TaskDTO readByTaskCode() {
+
+        if ("miss".equals(cache)) {
+            userClientRolesCache.invalidateAll();
+            projectManagerCache.invalidateAll();
+        }
+
+        ServletRequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        try {
+            return taskService.readByTaskCode("T0001");
+        } finally {
+            requestAttributes.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+            SecurityContextHolder.clearContext();
+        }
+
+    }
+
+    private static CacheProperties cacheProperties() {
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.setUserRolesTtl(Duration.ofMinutes(5));
+        cacheProperties.setUserRolesMaxSize(10_000);
+        cacheProperties.setProjectPositiveTtl(Duration.ofMinutes(10));
+        cacheProperties.setProjectNegativeTtl(Duration.ofSeconds(30));
+        cacheProperties.setProjectLastKnownTtl(Duration.ofHours(24));
+        cacheProperties.setProjectMaxSize(1_000);
+        cacheProperties.setUserCheckTtl(Duration.ofMinutes(5));
+        cacheProperties.setUserCheckNegativeTtl(Duration.ofSeconds(30));
+        cacheProperties.setUserCheckMaxSize(10_000);
+
+        return cacheProperties;
+
+    }
+
+    private static Keycloak keycloak() {
+
+        ClientRepresentation client = new ClientRepresentation();
+        client.setId(CLIENT_UUID);
+        client.setClientId(CLIENT_ID);
+
+        ClientsResource clientsResource = stub(ClientsResource.class, (proxy, method, args) ->
+                "findByClientId".equals(method.getName()) ? List.of(client) : null);
+
+        UsersResource usersResource = stub(UsersResource.class, (proxy, method, args) -> {
+            if ("search".equals(method.getName())) {
+                UserRepresentation user = new UserRepresentation();
+                user.setId((String) args[0]);
+                user.setUsername((String) args[0]);
+                return List.of(user);
+            }
+            if ("get".equals(method.getName())) {
+                return userResource((String) args[0]);
+            }
+            return null;
+        });
+
+        RealmResource realmResource = stub(RealmResource.class, (proxy, method, args) -> {
+            if ("clients".equals(method.getName())) {
+                return clientsResource;
+            }
+            return "users".equals(method.getName()) ? usersResource : null;
+        });
+
+        Keycloak keycloak = mock(Keycloak.class, withSettings().stubOnly());
+        when(keycloak.realm(REALM)).thenReturn(realmResource);
+
+        return keycloak;
+
+    }
+
+    private static UserResource userResource(String username) {
+
+        RoleRepresentation clientRole = new RoleRepresentation();
+        clientRole.setName(MANAGER.equals(username) ? "Manager" : "Employee");
+
+        RoleScopeResource roleScopeResource = stub(RoleScopeResource.class, (proxy, method, args) ->
+                "listEffective".equals(method.getName()) ? List.of(clientRole) : null);
+
+        RoleMappingResource roleMappingResource = stub(RoleMappingResource.class, (proxy, method, args) ->
+                "clientLevel".equals(method.getName()) ? roleScopeResource : null);
+
+        return stub(UserResource.class, (proxy, method, args) ->
+                "roles".equals(method.getName()) ? roleMappingResource : null);
+
+    }
+
+    private static KeycloakAuthenticationToken authentication(String username) {
+
+        AccessToken accessToken = new AccessToken();
+        accessToken.setPreferredUsername(username);
+
+        RefreshableKeycloakSecurityContext securityContext =
+                new RefreshableKeycloakSecurityContext(null, null, "token", accessToken, null, null, null);
+
+        return new KeycloakAuthenticationToken(
+                new SimpleKeycloakAccount(new KeycloakPrincipal<>(username, securityContext), Set.of(), securityContext), false);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, java.lang.reflect.InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.cydeo.benchmark;
+
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.entity.Task;
+import com.cydeo.enums.Status;
+import com.cydeo.util.MapperUtil;
+import com.cydeo.util.TaskMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperUtilBenchmark {
+
+    private ModelMapper modelMapper;
+    private MapperUtil mapperUtil;
+    private Task task;
+    private TaskDTO taskDTO;
+
+    @Setup
+    public void setUp() {
+
+        modelMapper = new ModelMapper();
+        mapperUtil = new MapperUtil(modelMapper, new TaskMapper());
+
+        task = new Task();
+        task.setId(1L);
+        task.setTaskCode("T0001");
+        task.setTaskSubject("Dependencies");
+        task.setTaskDetail("Add the required dependencies");
+        task.setTaskStatus(Status.IN_PROGRESS);
+        task.setAssignedDate(LocalDate.now());
+        task.setProjectCode("SP001");
+        task.setAssignedEmployee("employee@cydeo.com");
+
+        taskDTO = modelMapper.map(task, TaskDTO.class);
+
+    }
+
+    @Benchmark
+    public TaskDTO modelMapperToDto() {
+        return modelMapper.map(task, TaskDTO.class);
+    }
+
+    @Benchmark
+    public TaskDTO mapperUtilToDto() {
+        return mapperUtil.convert(task, TaskDTO.class);
+    }
+
+    @Benchmark
+    public Task modelMapperToEntity() {
+        return modelMapper.map(taskDTO, Task.class);
+    }
+
+    @Benchmark
+    public Task mapperUtilToEntity() {
+        return mapperUtil.convert(taskDTO, Task.class);
+    }
+
+}
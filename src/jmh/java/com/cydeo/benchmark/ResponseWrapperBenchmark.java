@@ -0,0 +1,64 @@
+package com.cydeo.benchmark;
+
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.dto.wrapper.ResponseWrapper;
+import com.cydeo.enums.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseWrapperBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int taskCount;
+
+    private ObjectMapper objectMapper;
+    private ResponseWrapper responseWrapper;
+
+    @Setup
+    public void setUp() {
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<TaskDTO> tasks = IntStream.range(0, taskCount)
+                .mapToObj(i -> TaskDTO.builder()
+                        .id((long) i)
+                        .taskCode(String.format("T%04d", i % 10000))
+                        .taskSubject("Subject " + i)
+                        .taskDetail("Task detail " + i)
+                        .taskStatus(Status.values()[i % Status.values().length])
+                        .assignedDate(LocalDate.now())
+                        .projectCode("SP" + String.format("%03d", i % 100))
+                        .assignedEmployee("employee" + (i % 50) + "@cydeo.com")
+                        .build())
+                .collect(Collectors.toList());
+
+        responseWrapper = ResponseWrapper.builder()
+                .success(true)
+                .statusCode(HttpStatus.OK)
+                .message("Tasks are successfully retrieved.")
+                .data(tasks)
+                .build();
+
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responseWrapper);
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.cydeo.benchmark;
+
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.entity.Task;
+import com.cydeo.enums.Status;
+import com.cydeo.repository.TaskRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskRepositoryBenchmark {
+
+    private static final int PROJECT_COUNT = 10;
+    private static final String EMPLOYEE = "employee@cydeo.com";
+    private static final int SAVE_COUNT = 500;
+    private static final String H2_URL = "jdbc:h2:mem:benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    @Param({"10000"})
+    private int taskCount;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate transactionTemplate;
+    private int batchNumber;
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    static class RepositoryConfig {
+    }
+
+    @Setup
+    public void setUp() {
+
+        context = new SpringApplicationBuilder(RepositoryConfig.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.config.name=benchmark",
+                        "--spring.datasource.url=" + System.getProperty("benchmark.datasource.url", H2_URL),
+                        "--spring.datasource.username=" + System.getProperty("benchmark.datasource.username", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("benchmark.datasource.password", ""),
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.properties.hibernate.order_inserts=true",
+                        "--spring.jpa.properties.task-service.id.allocation-size=" + batchSize);
+
+        taskRepository = context.getBean(TaskRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        taskRepository.saveAll(IntStream.range(0, taskCount)
+                .mapToObj(i -> task("T" + i, "SP" + (i % PROJECT_COUNT)))
+                .collect(Collectors.toList()));
+
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Task> findByTaskCode() {
+        return taskRepository.findByTaskCode("T" + (taskCount / 2));
+    }
+
+    @Benchmark
+    public List<TaskDTO> findAllDtosByProjectCode() {
+        return taskRepository.findAllDtosByProjectCode("SP1");
+    }
+
+    @Benchmark
+    public Slice<TaskDTO> findDtoSliceByProjectCode() {
+        return taskRepository.findDtoSliceByProjectCode("SP1", 0L, PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Benchmark
+    public List<TaskDTO> findAllDtosByTaskStatusAndAssignedEmployee() {
+        return taskRepository.findAllDtosByTaskStatusAndAssignedEmployee(Status.OPEN, EMPLOYEE);
+    }
+
+    @Benchmark
+    public List<Task> saveAllBatch() {
+
+        String prefix = "B" + batchNumber++ + "-";
+
+        return transactionTemplate.execute(status -> {
+            List<Task> tasks = taskRepository.saveAll(IntStream.range(0, SAVE_COUNT)
+                    .mapToObj(i -> task(prefix + i, "SPX"))
+                    .collect(Collectors.toList()));
+            taskRepository.flush();
+            status.setRollbackOnly();
+            return tasks;
+        });
+
+    }
+
+    private static Task task(String taskCode, String projectCode) {
+
+        Task task = new Task();
+
+        task.setTaskCode(taskCode);
+        task.setTaskSubject("Subject");
+        task.setTaskDetail("Task detail");
+        task.setTaskStatus(Status.OPEN);
+        task.setAssignedDate(LocalDate.now());
+        task.setProjectCode(projectCode);
+        task.setAssignedEmployee(EMPLOYEE);
+
+        return task;
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.cydeo.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are sent on a fixed schedule regardless of how fast earlier ones
+ * complete, and latency is measured from the scheduled send time so queueing delay is not hidden.
+ */
+public class LoadRunner {
+
+    private final HttpClient httpClient;
+    private final Duration drainTimeout;
+
+    public LoadRunner(HttpClient httpClient, Duration drainTimeout) {
+        this.httpClient = httpClient;
+        this.drainTimeout = drainTimeout;
+    }
+
+    public ScenarioResult run(Scenario scenario, int rps, Duration warmup, Duration duration, AtomicLong sequence) {
+        drive(scenario, rps, warmup, sequence, null, null, null);
+        return measure(scenario, rps, duration, sequence);
+    }
+
+    private ScenarioResult measure(Scenario scenario, int rps, Duration duration, AtomicLong sequence) {
+
+        int total = requestCount(rps, duration);
+        long[] latencies = new long[total];
+        Map<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<>();
+        AtomicLong errors = new AtomicLong();
+
+        long elapsedNanos = drive(scenario, rps, duration, sequence, latencies, statusCounts, errors);
+
+        long[] recorded = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.get()));
+
+        return ScenarioResult.builder()
+                .scenario(scenario.getName())
+                .targetRps(rps)
+                .requests(total)
+                .errors(errors.get() + (total - recorded.length))
+                .throughput(recorded.length / (elapsedNanos / 1e9))
+                .p50Millis(percentile(recorded, 0.50))
+                .p90Millis(percentile(recorded, 0.90))
+                .p99Millis(percentile(recorded, 0.99))
+                .p999Millis(percentile(recorded, 0.999))
+                .maxMillis(recorded.length == 0 ? 0 : recorded[recorded.length - 1] / 1e6)
+                .statusCounts(counts)
+                .build();
+
+    }
+
+    private long drive(Scenario scenario, int rps, Duration duration, AtomicLong sequence,
+                       long[] latencies, Map<Integer, AtomicLong> statusCounts, AtomicLong errors) {
+
+        int total = requestCount(rps, duration);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        CompletableFuture<?>[] futures = new CompletableFuture[total];
+        long start = System.nanoTime();
+
+        for (int i = 0; i < total; i++) {
+
+            long scheduled = start + i * intervalNanos;
+            long delay = scheduled - System.nanoTime();
+
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            int index = i;
+
+            futures[i] = httpClient.sendAsync(scenario.request((int) sequence.getAndIncrement()), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, exception) -> {
+                        if (latencies == null) {
+                            return;
+                        }
+                        if (exception != null) {
+                            statusCounts.computeIfAbsent(-1, status -> new AtomicLong()).incrementAndGet();
+                            return;
+                        }
+                        latencies[index] = Math.max(1, System.nanoTime() - scheduled);
+                        statusCounts.computeIfAbsent(response.statusCode(), status -> new AtomicLong()).incrementAndGet();
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    });
+
+        }
+
+        try {
+            CompletableFuture.allOf(futures).get(drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            Arrays.stream(futures).forEach(future -> future.cancel(true));
+        } catch (Exception exception) {
+            // individual failures are already counted
+        }
+
+        return System.nanoTime() - start;
+
+    }
+
+    private static int requestCount(int rps, Duration duration) {
+        return (int) (rps * duration.toMillis() / 1000);
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1e6;
+    }
+
+}
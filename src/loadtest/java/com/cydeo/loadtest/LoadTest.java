@@ -0,0 +1,330 @@
+package com.cydeo.loadtest;
+
+import com.cydeo.TaskServiceApplication;
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.enums.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Starts the stubs, an embedded PostgreSQL and task-service in one JVM, seeds data through the API and
+ * drives every TaskController endpoint at a fixed request rate. The Prometheus scrape taken at the end is
+ * saved next to the results.
+ *
+ * <p>Configured through system properties: {@code loadtest.rps}, {@code loadtest.warmup},
+ * {@code loadtest.duration}, {@code loadtest.scenarios} (regex), {@code loadtest.latency.keycloak},
+ * {@code loadtest.latency.project-service}, {@code loadtest.latency.user-service},
+ * {@code loadtest.datasource.url} (use an existing database instead of the embedded one) and
+ * {@code loadtest.result}.
+ */
+public class LoadTest {
+
+    private static final String REALM = "loadtest";
+    private static final String CLIENT_ID = "ticketing-app";
+    private static final String MANAGER = "manager@cydeo.com";
+    private static final String ADMIN = "admin@cydeo.com";
+    private static final int EMPLOYEE_COUNT = 10;
+    private static final int PROJECT_COUNT = 10;
+    private static final int TASKS_PER_PROJECT = 100;
+    private static final String COMPLETE_PROJECT = "LT900";
+    private static final String DELETE_PROJECT = "LT901";
+    private static final String DELETE_POOL_PROJECT = "LT902";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Map<String, String> tokens = new HashMap<>();
+
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    public static void main(String[] args) {
+
+        int status = 0;
+
+        try {
+            new LoadTest().run();
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            status = 1;
+        }
+
+        System.exit(status);
+
+    }
+
+    private void run() throws Exception {
+
+        int rps = Integer.getInteger("loadtest.rps", 50);
+        Duration warmup = duration("loadtest.warmup", "5s");
+        Duration duration = duration("loadtest.duration", "30s");
+        Pattern scenarioFilter = Pattern.compile(System.getProperty("loadtest.scenarios", ".*"));
+        File resultFile = new File(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+
+        TokenIssuer tokenIssuer = new TokenIssuer();
+        StubServer stubServer = new StubServer(tokenIssuer, CLIENT_ID,
+                duration("loadtest.latency.keycloak", "5ms"),
+                duration("loadtest.latency.project-service", "10ms"),
+                duration("loadtest.latency.user-service", "10ms"));
+
+        registerStubData(stubServer);
+        stubServer.start(0);
+
+        EmbeddedPostgres postgres = null;
+        String datasourceUrl = System.getProperty("loadtest.datasource.url");
+
+        if (datasourceUrl == null) {
+            postgres = EmbeddedPostgres.builder().start();
+            datasourceUrl = postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true";
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + datasourceUrl,
+                "--spring.datasource.username=" + System.getProperty("loadtest.datasource.username", "postgres"),
+                "--spring.datasource.password=" + System.getProperty("loadtest.datasource.password", "postgres"),
+                "--spring.jpa.show-sql=false",
+                "--keycloak.realm=" + REALM,
+                "--keycloak.resource=" + CLIENT_ID,
+                "--keycloak.auth-server-url=" + stubServer.getAuthServerUrl(),
+                "--clients.project-service.url=" + stubServer.getBaseUrl(),
+                "--clients.user-service.url=" + stubServer.getBaseUrl(),
+                "--clients.user-service.bulk-check-enabled=true");
+
+        try {
+
+            String appUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = appUrl + "/api/v1/task";
+            httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newFixedThreadPool(16))
+                    .build();
+
+            String issuer = stubServer.getAuthServerUrl() + "/realms/" + REALM;
+            users().forEach(username -> tokens.put(username,
+                    tokenIssuer.issue(issuer, CLIENT_ID, username, stubServer.getUserRoles(username), 86400)));
+
+            int deletePoolSize = rps * (int) (warmup.getSeconds() + duration.getSeconds());
+            seed(deletePoolSize);
+
+            LoadRunner loadRunner = new LoadRunner(httpClient, Duration.ofSeconds(30));
+            List<ScenarioResult> results = new ArrayList<>();
+
+            for (Scenario scenario : scenarios()) {
+                if (scenarioFilter.matcher(scenario.getName()).matches()) {
+                    ScenarioResult result = loadRunner.run(scenario, rps, warmup, duration, new AtomicLong());
+                    results.add(result);
+                    System.out.println(format(result));
+                }
+            }
+
+            resultFile.getParentFile().mkdirs();
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(resultFile, results);
+
+            File metricsFile = new File(resultFile.getParentFile(), "loadtest-metrics.prom");
+            httpClient.send(HttpRequest.newBuilder(URI.create(appUrl + "/actuator/prometheus"))
+                            .header("Authorization", "Bearer " + tokens.get(ADMIN)).GET().build(),
+                    HttpResponse.BodyHandlers.ofFile(metricsFile.toPath()));
+
+            System.out.println();
+            System.out.println(header());
+            results.forEach(result -> System.out.println(format(result)));
+            System.out.println("Results are written to " + resultFile.getAbsolutePath() + ", metrics to " + metricsFile.getAbsolutePath());
+
+        } finally {
+            context.close();
+            stubServer.stop();
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+
+    }
+
+    private void registerStubData(StubServer stubServer) {
+
+        stubServer.addUser(MANAGER, "Manager");
+        stubServer.addUser(ADMIN, "Admin");
+        IntStream.rangeClosed(1, EMPLOYEE_COUNT).forEach(i -> stubServer.addUser(employee(i), "Employee"));
+
+        IntStream.rangeClosed(1, PROJECT_COUNT).forEach(i -> stubServer.addProject(project(i), MANAGER));
+        stubServer.addProject(COMPLETE_PROJECT, MANAGER);
+        stubServer.addProject(DELETE_PROJECT, MANAGER);
+        stubServer.addProject(DELETE_POOL_PROJECT, MANAGER);
+
+    }
+
+    private List<String> users() {
+        List<String> users = new ArrayList<>(List.of(MANAGER, ADMIN));
+        IntStream.rangeClosed(1, EMPLOYEE_COUNT).forEach(i -> users.add(employee(i)));
+        return users;
+    }
+
+    private void seed(int deletePoolSize) throws IOException, InterruptedException {
+
+        int seededTaskCount = PROJECT_COUNT * TASKS_PER_PROJECT;
+
+        createInBatches(IntStream.range(0, seededTaskCount)
+                .mapToObj(i -> task(seededTaskCode(i), project(i / TASKS_PER_PROJECT + 1), employee(i % EMPLOYEE_COUNT + 1)))
+                .collect(Collectors.toList()));
+
+        createInBatches(IntStream.range(0, TASKS_PER_PROJECT)
+                .mapToObj(i -> task("P" + code(i), i % 2 == 0 ? COMPLETE_PROJECT : DELETE_PROJECT, employee(i % EMPLOYEE_COUNT + 1)))
+                .collect(Collectors.toList()));
+
+        createInBatches(IntStream.range(0, deletePoolSize)
+                .mapToObj(i -> task("D" + code(i), DELETE_POOL_PROJECT, employee(i % EMPLOYEE_COUNT + 1)))
+                .collect(Collectors.toList()));
+
+        for (int i = 0; i < seededTaskCount; i += 3) {
+            checkSeeded(send(HttpRequest.newBuilder(URI.create(baseUrl + "/update/employee/" + seededTaskCode(i) + "?status=COMPLETED"))
+                    .PUT(HttpRequest.BodyPublishers.noBody()), employee(i % EMPLOYEE_COUNT + 1)));
+        }
+
+    }
+
+    private void createInBatches(List<TaskDTO> tasks) throws IOException, InterruptedException {
+        for (int from = 0; from < tasks.size(); from += 100) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/create/batch"))
+                    .POST(json(tasks.subList(from, Math.min(from + 100, tasks.size())))), MANAGER);
+            checkSeeded(response);
+        }
+    }
+
+    private static void checkSeeded(HttpResponse<String> response) {
+        if (response.statusCode() >= 400 || response.body().contains("\"success\":false")) {
+            throw new IllegalStateException("Seeding failed: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private List<Scenario> scenarios() {
+
+        List<String> projectCodes = IntStream.rangeClosed(1, PROJECT_COUNT).mapToObj(LoadTest::project).collect(Collectors.toList());
+        int seededTaskCount = PROJECT_COUNT * TASKS_PER_PROJECT;
+
+        return List.of(
+                new Scenario("create", i -> post("/create", MANAGER,
+                        task("C" + code(i), project(i % PROJECT_COUNT + 1), employee(i % EMPLOYEE_COUNT + 1)))),
+                new Scenario("create-batch", i -> post("/create/batch", MANAGER, IntStream.range(0, 10)
+                        .mapToObj(j -> task("B" + code(i * 10 + j), project(i % PROJECT_COUNT + 1), employee(j % EMPLOYEE_COUNT + 1)))
+                        .collect(Collectors.toList()))),
+                new Scenario("read-by-code-manager", i -> get("/read/" + seededTaskCode(i % seededTaskCount), MANAGER)),
+                new Scenario("read-by-code-employee", i -> get("/read/" + seededTaskCode(i % seededTaskCount), employee(i % seededTaskCount % EMPLOYEE_COUNT + 1))),
+                new Scenario("read-all-by-project", i -> get("/read/all/" + project(i % PROJECT_COUNT + 1), MANAGER)),
+                new Scenario("read-page-by-project", i -> get("/read/all/" + project(i % PROJECT_COUNT + 1) + "/page?size=20", MANAGER)),
+                new Scenario("export-by-project", i -> get("/export/" + project(i % PROJECT_COUNT + 1) + "?format=NDJSON", MANAGER)),
+                new Scenario("employee-archive", i -> get("/read/employee/archive", employee(i % EMPLOYEE_COUNT + 1))),
+                new Scenario("employee-archive-page", i -> get("/read/employee/archive/page?size=20", employee(i % EMPLOYEE_COUNT + 1))),
+                new Scenario("employee-pending", i -> get("/read/employee/pending-tasks", employee(i % EMPLOYEE_COUNT + 1))),
+                new Scenario("employee-pending-page", i -> get("/read/employee/pending-tasks/page?size=20", employee(i % EMPLOYEE_COUNT + 1))),
+                new Scenario("count-by-project", i -> get("/count/project/" + project(i % PROJECT_COUNT + 1), MANAGER)),
+                new Scenario("count-by-projects", i -> post("/count/projects", MANAGER, projectCodes)),
+                new Scenario("count-by-employee", i -> get("/count/employee/" + employee(i % EMPLOYEE_COUNT + 1), ADMIN)),
+                new Scenario("update", i -> put("/update/" + seededTaskCode(i % seededTaskCount), MANAGER,
+                        task(seededTaskCode(i % seededTaskCount), project(i % seededTaskCount / TASKS_PER_PROJECT + 1), employee(i % seededTaskCount % EMPLOYEE_COUNT + 1)))),
+                new Scenario("update-status-employee", i -> put("/update/employee/" + seededTaskCode(i % seededTaskCount)
+                        + "?status=" + (i % 2 == 0 ? Status.IN_PROGRESS : Status.OPEN), employee(i % seededTaskCount % EMPLOYEE_COUNT + 1), null)),
+                new Scenario("complete-project", i -> put("/complete/project/" + COMPLETE_PROJECT, MANAGER, null)),
+                new Scenario("delete", i -> request("/delete/D" + code(i), MANAGER).DELETE().build()),
+                new Scenario("delete-project", i -> request("/delete/project/" + DELETE_PROJECT, MANAGER).DELETE().build()));
+
+    }
+
+    private HttpRequest get(String path, String username) {
+        return request(path, username).GET().build();
+    }
+
+    private HttpRequest post(String path, String username, Object body) {
+        return request(path, username).POST(json(body)).build();
+    }
+
+    private HttpRequest put(String path, String username, Object body) {
+        return request(path, username).PUT(body == null ? HttpRequest.BodyPublishers.noBody() : json(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path, String username) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + tokens.get(username))
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder, String username) throws IOException, InterruptedException {
+        HttpRequest request = builder.header("Authorization", "Bearer " + tokens.get(username))
+                .header("Content-Type", "application/json")
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static TaskDTO task(String taskCode, String projectCode, String assignedEmployee) {
+        return TaskDTO.builder()
+                .taskCode(taskCode)
+                .taskSubject("Load test")
+                .taskDetail("Created by the load-test harness")
+                .assignedDate(LocalDate.now())
+                .projectCode(projectCode)
+                .assignedEmployee(assignedEmployee)
+                .build();
+    }
+
+    private static String seededTaskCode(int index) {
+        return String.format("S%04d", index);
+    }
+
+    private static String code(int index) {
+        String code = Integer.toString(index, 36).toUpperCase();
+        return "0000".substring(Math.min(4, code.length())) + code;
+    }
+
+    private static String project(int index) {
+        return String.format("LT%03d", index);
+    }
+
+    private static String employee(int index) {
+        return "employee" + index + "@cydeo.com";
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private static String header() {
+        return String.format("%-24s %8s %8s %10s %9s %9s %9s %9s %9s",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    private static String format(ScenarioResult result) {
+        return String.format("%-24s %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                result.getScenario(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                result.getP50Millis(), result.getP90Millis(), result.getP99Millis(), result.getP999Millis(), result.getMaxMillis());
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.cydeo.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.net.http.HttpRequest;
+import java.util.function.IntFunction;
+
+@Getter
+@AllArgsConstructor
+public class Scenario {
+
+    private final String name;
+    private final IntFunction<HttpRequest> requestFactory;
+
+    public HttpRequest request(int sequence) {
+        return requestFactory.apply(sequence);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.cydeo.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class ScenarioResult {
+
+    private final String scenario;
+    private final int targetRps;
+    private final long requests;
+    private final long errors;
+    private final double throughput;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+    private final Map<Integer, Long> statusCounts;
+
+}
@@ -0,0 +1,224 @@
+package com.cydeo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for Keycloak (token endpoint, JWKS and the admin API used by task-service),
+ * project-service and user-service, with a configurable latency per dependency.
+ */
+public class StubServer {
+
+    public static final String CLIENT_UUID = "loadtest-client-uuid";
+
+    private static final Pattern TOKEN = Pattern.compile("/auth/realms/([^/]+)/protocol/openid-connect/token");
+    private static final Pattern OPENID_CONFIGURATION = Pattern.compile("/auth/realms/([^/]+)/\\.well-known/openid-configuration");
+    private static final Pattern CERTS = Pattern.compile("/auth/realms/([^/]+)/protocol/openid-connect/certs");
+    private static final Pattern SERVER_INFO = Pattern.compile("/auth/admin/serverinfo");
+    private static final Pattern CLIENTS = Pattern.compile("/auth/admin/realms/([^/]+)/clients");
+    private static final Pattern USERS = Pattern.compile("/auth/admin/realms/([^/]+)/users");
+    private static final Pattern CLIENT_ROLE_USERS = Pattern.compile("/auth/admin/realms/([^/]+)/clients/([^/]+)/roles/([^/]+)/users");
+    private static final Pattern USER_CLIENT_ROLES = Pattern.compile("/auth/admin/realms/([^/]+)/users/([^/]+)/role-mappings/clients/([^/]+)(/composite)?");
+    private static final Pattern PROJECT_MANAGER = Pattern.compile("/api/v1/project/read/manager/([^/]+)");
+    private static final Pattern PROJECT_CHECK = Pattern.compile("/api/v1/project/check/([^/]+)");
+    private static final Pattern USER_CHECK = Pattern.compile("/api/v1/user/check/([^/]+)");
+    private static final Pattern USER_BATCH_CHECK = Pattern.compile("/api/v1/user/check");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TokenIssuer tokenIssuer;
+    private final String clientId;
+    private final Map<String, List<String>> userRoles = new ConcurrentHashMap<>();
+    private final Map<String, String> projectManagers = new ConcurrentHashMap<>();
+
+    private final Duration keycloakLatency;
+    private final Duration projectServiceLatency;
+    private final Duration userServiceLatency;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubServer(TokenIssuer tokenIssuer, String clientId, Duration keycloakLatency, Duration projectServiceLatency, Duration userServiceLatency) {
+        this.tokenIssuer = tokenIssuer;
+        this.clientId = clientId;
+        this.keycloakLatency = keycloakLatency;
+        this.projectServiceLatency = projectServiceLatency;
+        this.userServiceLatency = userServiceLatency;
+    }
+
+    public void addUser(String username, String... clientRoles) {
+        userRoles.put(username, List.of(clientRoles));
+    }
+
+    public void addProject(String projectCode, String manager) {
+        projectManagers.put(projectCode, manager);
+    }
+
+    public List<String> getUserRoles(String username) {
+        return userRoles.getOrDefault(username, List.of());
+    }
+
+    public void start(int port) throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    public String getAuthServerUrl() {
+        return getBaseUrl() + "/auth";
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        try {
+
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+            Matcher matcher;
+
+            if ((matcher = TOKEN.matcher(path)).matches()) {
+                pause(keycloakLatency);
+                Map<String, String> form = parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                String username = form.getOrDefault("username", form.getOrDefault("client_id", "service-account"));
+                String token = tokenIssuer.issue(getAuthServerUrl() + "/realms/" + matcher.group(1), clientId, username, getUserRoles(username), 3600);
+                respond(exchange, 200, Map.of("access_token", token, "expires_in", 3600, "refresh_expires_in", 3600,
+                        "refresh_token", token, "token_type", "Bearer"));
+            } else if ((matcher = OPENID_CONFIGURATION.matcher(path)).matches()) {
+                String realmUrl = getAuthServerUrl() + "/realms/" + matcher.group(1);
+                String endpoints = realmUrl + "/protocol/openid-connect";
+                respond(exchange, 200, Map.of("issuer", realmUrl,
+                        "authorization_endpoint", endpoints + "/auth",
+                        "token_endpoint", endpoints + "/token",
+                        "userinfo_endpoint", endpoints + "/userinfo",
+                        "end_session_endpoint", endpoints + "/logout",
+                        "jwks_uri", endpoints + "/certs"));
+            } else if (CERTS.matcher(path).matches()) {
+                respond(exchange, 200, tokenIssuer.keySet());
+            } else if (SERVER_INFO.matcher(path).matches()) {
+                pause(keycloakLatency);
+                respond(exchange, 200, Map.of("systemInfo", Map.of("version", "loadtest-stub")));
+            } else if (CLIENTS.matcher(path).matches()) {
+                pause(keycloakLatency);
+                respond(exchange, 200, List.of(Map.of("id", CLIENT_UUID, "clientId", query.getOrDefault("clientId", clientId))));
+            } else if (USERS.matcher(path).matches()) {
+                pause(keycloakLatency);
+                String username = query.containsKey("username") ? query.get("username") : query.get("search");
+                respond(exchange, 200, userRoles.containsKey(username) ? List.of(Map.of("id", username, "username", username)) : List.of());
+            } else if ((matcher = USER_CLIENT_ROLES.matcher(path)).matches()) {
+                pause(keycloakLatency);
+                List<Map<String, String>> roles = new ArrayList<>();
+                getUserRoles(matcher.group(2)).forEach(role -> roles.add(Map.of("id", role, "name", role)));
+                respond(exchange, 200, roles);
+            } else if ((matcher = CLIENT_ROLE_USERS.matcher(path)).matches()) {
+                pause(keycloakLatency);
+                String role = matcher.group(3);
+                List<Map<String, String>> members = new ArrayList<>();
+                userRoles.keySet().stream().sorted()
+                        .filter(username -> getUserRoles(username).contains(role))
+                        .skip(Integer.parseInt(query.getOrDefault("first", "0")))
+                        .limit(Integer.parseInt(query.getOrDefault("max", "100")))
+                        .forEach(username -> members.add(Map.of("id", username, "username", username)));
+                respond(exchange, 200, members);
+            } else if ((matcher = PROJECT_MANAGER.matcher(path)).matches()) {
+                pause(projectServiceLatency);
+                String manager = projectManagers.get(matcher.group(1));
+                respond(exchange, manager == null ? 404 : 200, responseBody(manager != null, manager));
+            } else if ((matcher = PROJECT_CHECK.matcher(path)).matches()) {
+                pause(projectServiceLatency);
+                respond(exchange, 200, responseBody(true, projectManagers.containsKey(matcher.group(1))));
+            } else if ((matcher = USER_CHECK.matcher(path)).matches()) {
+                pause(userServiceLatency);
+                respond(exchange, 200, responseBody(true, getUserRoles(matcher.group(1)).contains("Employee")));
+            } else if (USER_BATCH_CHECK.matcher(path).matches() && "POST".equals(exchange.getRequestMethod())) {
+                pause(userServiceLatency);
+                String[] usernames = objectMapper.readValue(exchange.getRequestBody(), String[].class);
+                Map<String, Boolean> checks = new LinkedHashMap<>();
+                Arrays.stream(usernames).forEach(username -> checks.put(username, getUserRoles(username).contains("Employee")));
+                respond(exchange, 200, responseBody(true, checks));
+            } else {
+                respond(exchange, 404, Map.of("error", "No stub for " + exchange.getRequestMethod() + " " + path));
+            }
+
+        } finally {
+            exchange.close();
+        }
+
+    }
+
+    private Map<String, Object> responseBody(boolean success, Object data) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", success);
+        body.put("statusCode", success ? "OK" : "NOT_FOUND");
+        body.put("message", success ? "Stubbed response." : "Not found.");
+        body.put("data", data);
+        return body;
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseForm(String encoded) {
+
+        Map<String, String> values = new HashMap<>();
+
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), StandardCharsets.UTF_8);
+            String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            values.put(key, value);
+        }
+
+        return values;
+
+    }
+
+    private static void pause(Duration latency) {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
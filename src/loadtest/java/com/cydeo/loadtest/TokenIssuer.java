@@ -0,0 +1,55 @@
+package com.cydeo.loadtest;
+
+import org.keycloak.jose.jwk.JSONWebKeySet;
+import org.keycloak.jose.jwk.JWK;
+import org.keycloak.jose.jwk.JWKBuilder;
+import org.keycloak.jose.jws.JWSBuilder;
+import org.keycloak.representations.AccessToken;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.UUID;
+
+public class TokenIssuer {
+
+    private static final String KEY_ID = "loadtest-key";
+
+    private final KeyPair keyPair;
+
+    public TokenIssuer() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            keyPair = generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public JSONWebKeySet keySet() {
+        JSONWebKeySet keySet = new JSONWebKeySet();
+        keySet.setKeys(new JWK[]{JWKBuilder.create().kid(KEY_ID).rs256(keyPair.getPublic())});
+        return keySet;
+    }
+
+    public String issue(String issuer, String clientId, String username, List<String> clientRoles, int validitySeconds) {
+
+        AccessToken token = new AccessToken();
+
+        token.id(UUID.randomUUID().toString());
+        token.issuer(issuer);
+        token.subject(username);
+        token.type("Bearer");
+        token.issuedFor(clientId);
+        token.issuedNow();
+        token.exp(token.getIat() + validitySeconds);
+        token.setPreferredUsername(username);
+        clientRoles.forEach(role -> token.addAccess(clientId).addRole(role));
+
+        return new JWSBuilder().kid(KEY_ID).type("JWT").jsonContent(token).rsa256(keyPair.getPrivate());
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.cydeo.aspect;
+
+import com.cydeo.util.DependencyMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private final DependencyMetrics dependencyMetrics;
+
+    public MetricsAspect(DependencyMetrics dependencyMetrics) {
+        this.dependencyMetrics = dependencyMetrics;
+    }
+
+    @Around("execution(* com.cydeo.client..*(..))")
+    public Object timeClientCall(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        Class<?> clientType = joinPoint.getSignature().getDeclaringType();
+        FeignClient feignClient = clientType.getAnnotation(FeignClient.class);
+        String dependency = feignClient == null ? clientType.getSimpleName() : feignClient.value();
+
+        return time(joinPoint, dependency, clientType.getSimpleName() + "." + joinPoint.getSignature().getName());
+
+    }
+
+    @Around("bean(*Repository) && execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        Class<?>[] repositoryTypes = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        String repository = repositoryTypes.length == 0 ? joinPoint.getSignature().getDeclaringType().getSimpleName() : repositoryTypes[0].getSimpleName();
+
+        return time(joinPoint, "database", repository + "." + joinPoint.getSignature().getName());
+
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String dependency, String operation) throws Throwable {
+
+        Timer.Sample sample = dependencyMetrics.start();
+        Throwable failure = null;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            failure = throwable;
+            throw throwable;
+        } finally {
+            dependencyMetrics.stop(sample, dependency, operation, failure);
+        }
+
+    }
+
+}
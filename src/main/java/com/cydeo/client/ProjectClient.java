@@ -1,5 +1,6 @@
 package com.cydeo.client;
 
+import com.cydeo.config.PooledFeignClientConfig;
 import com.cydeo.dto.ProjectResponseDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -7,7 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(value = "project-service", url = "http://localhost:8082")
+@FeignClient(value = "project-service", url = "${clients.project-service.url:http://localhost:8082}", configuration = PooledFeignClientConfig.class)
 public interface ProjectClient {
 
     @GetMapping("/api/v1/project/read/manager/{projectCode}")
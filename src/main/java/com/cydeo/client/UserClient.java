@@ -1,16 +1,25 @@
 package com.cydeo.client;
 
+import com.cydeo.config.PooledFeignClientConfig;
+import com.cydeo.dto.UserBatchCheckResponseDTO;
 import com.cydeo.dto.UserResponseDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(value = "user-service", url = "http://localhost:8081")
+import java.util.List;
+
+@FeignClient(value = "user-service", url = "${clients.user-service.url:http://localhost:8081}", configuration = PooledFeignClientConfig.class)
 public interface UserClient {
 
     @GetMapping("/api/v1/user/check/{userName}")
     ResponseEntity<UserResponseDTO> checkByUserName(@RequestHeader(value = "Authorization") String authorizationHeader, @PathVariable("userName") String userName);
 
+    @PostMapping("/api/v1/user/check")
+    ResponseEntity<UserBatchCheckResponseDTO> checkByUserNames(@RequestHeader(value = "Authorization") String authorizationHeader, @RequestBody List<String> userNames);
+
 }
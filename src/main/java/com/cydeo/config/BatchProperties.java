@@ -0,0 +1,19 @@
+package com.cydeo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+public class BatchProperties {
+
+    @Value("${batch.create.max-size:100}")
+    private int createMaxSize;
+
+    @Value("${batch.count-projects.max-size:100}")
+    private int countProjectsMaxSize;
+
+}
@@ -0,0 +1,129 @@
+package com.cydeo.config;
+
+import com.cydeo.dto.ProjectResponseDTO;
+import com.cydeo.dto.UserResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+@Configuration
+public class CacheConfig {
+
+    private final CacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    public CacheConfig(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.cacheProperties = cacheProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public Cache<String, List<String>> userClientRolesCache() {
+
+        Cache<String, List<String>> cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheProperties.getUserRolesTtl())
+                .maximumSize(cacheProperties.getUserRolesMaxSize())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "userClientRoles");
+
+    }
+
+    @Bean
+    public Cache<String, Boolean> clientRoleMembersCache() {
+
+        Cache<String, Boolean> cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheProperties.getUserRolesTtl())
+                .maximumSize(cacheProperties.getUserRolesMaxSize())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "clientRoleMembers");
+
+    }
+
+    @Bean
+    public Cache<String, ProjectResponseDTO> projectManagerCache() {
+        return projectCache("projectManager", ProjectResponseDTO::isSuccess);
+    }
+
+    @Bean
+    public Cache<String, ProjectResponseDTO> projectExistsCache() {
+        return projectCache("projectExists", response -> response.isSuccess() && Boolean.TRUE.equals(response.getData()));
+    }
+
+    @Bean
+    public Cache<String, ProjectResponseDTO> lastKnownManagerCache() {
+
+        Cache<String, ProjectResponseDTO> cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheProperties.getProjectLastKnownTtl())
+                .maximumSize(cacheProperties.getProjectMaxSize())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "lastKnownManager");
+
+    }
+
+    @Bean
+    public Cache<String, UserResponseDTO> userCheckCache() {
+
+        Predicate<UserResponseDTO> isPositive = response -> response.isSuccess() && Boolean.TRUE.equals(response.getData());
+
+        Cache<String, UserResponseDTO> cache = Caffeine.newBuilder()
+                .expireAfter(positiveNegativeExpiry(isPositive,
+                        cacheProperties.getUserCheckTtl(), cacheProperties.getUserCheckNegativeTtl()))
+                .maximumSize(cacheProperties.getUserCheckMaxSize())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "userCheck");
+
+    }
+
+    private Cache<String, ProjectResponseDTO> projectCache(String name, Predicate<ProjectResponseDTO> isPositive) {
+
+        Cache<String, ProjectResponseDTO> cache = Caffeine.newBuilder()
+                .expireAfter(positiveNegativeExpiry(isPositive,
+                        cacheProperties.getProjectPositiveTtl(), cacheProperties.getProjectNegativeTtl()))
+                .maximumSize(cacheProperties.getProjectMaxSize())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+
+    }
+
+    private <K, V> Expiry<K, V> positiveNegativeExpiry(Predicate<V> isPositive, Duration positiveTtl, Duration negativeTtl) {
+
+        return new Expiry<>() {
+
+            @Override
+            public long expireAfterCreate(K key, V value, long currentTime) {
+                return isPositive.test(value) ? positiveTtl.toNanos() : negativeTtl.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+        };
+
+    }
+
+}
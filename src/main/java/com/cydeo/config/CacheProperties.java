@@ -0,0 +1,42 @@
+package com.cydeo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+public class CacheProperties {
+
+    @Value("${cache.user-roles.ttl:5m}")
+    private Duration userRolesTtl;
+
+    @Value("${cache.user-roles.max-size:10000}")
+    private long userRolesMaxSize;
+
+    @Value("${cache.project.positive-ttl:10m}")
+    private Duration projectPositiveTtl;
+
+    @Value("${cache.project.negative-ttl:30s}")
+    private Duration projectNegativeTtl;
+
+    @Value("${cache.project.last-known-ttl:24h}")
+    private Duration projectLastKnownTtl;
+
+    @Value("${cache.project.max-size:1000}")
+    private long projectMaxSize;
+
+    @Value("${cache.user-check.ttl:5m}")
+    private Duration userCheckTtl;
+
+    @Value("${cache.user-check.negative-ttl:30s}")
+    private Duration userCheckNegativeTtl;
+
+    @Value("${cache.user-check.max-size:10000}")
+    private long userCheckMaxSize;
+
+}
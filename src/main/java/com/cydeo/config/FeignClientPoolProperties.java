@@ -0,0 +1,19 @@
+package com.cydeo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+public class FeignClientPoolProperties {
+
+    private int maxConnections = 50;
+    private int maxConnectionsPerRoute = 50;
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private Duration idleTimeout = Duration.ofSeconds(60);
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+}
@@ -0,0 +1,46 @@
+package com.cydeo.config;
+
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.keycloak.admin.client.JacksonProvider;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class KeycloakAdminConfig {
+
+    private final KeycloakProperties keycloakProperties;
+
+    public KeycloakAdminConfig(KeycloakProperties keycloakProperties) {
+        this.keycloakProperties = keycloakProperties;
+    }
+
+    @Bean(destroyMethod = "close")
+    public Keycloak keycloak() {
+
+        ResteasyClientBuilder clientBuilder = (ResteasyClientBuilder) ResteasyClientBuilder.newBuilder();
+
+        clientBuilder.connectionPoolSize(keycloakProperties.getConnectionPoolSize())
+                .maxPooledPerRoute(keycloakProperties.getConnectionPoolSize())
+                .connectionTTL(keycloakProperties.getConnectionTtl().toMillis(), TimeUnit.MILLISECONDS)
+                .register(JacksonProvider.class);
+
+        Keycloak keycloak = KeycloakBuilder.builder()
+                .serverUrl(keycloakProperties.getAuthServerUrl())
+                .realm(keycloakProperties.getMasterRealm())
+                .username(keycloakProperties.getMasterUser())
+                .password(keycloakProperties.getMasterUserPswd())
+                .clientId(keycloakProperties.getMasterClient())
+                .resteasyClient(clientBuilder.build())
+                .build();
+
+        keycloak.tokenManager().setMinTokenValidity(keycloakProperties.getMinTokenValidity().getSeconds());
+
+        return keycloak;
+
+    }
+
+}
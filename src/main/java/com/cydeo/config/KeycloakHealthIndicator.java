@@ -0,0 +1,29 @@
+package com.cydeo.config;
+
+import org.keycloak.admin.client.Keycloak;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KeycloakHealthIndicator extends AbstractHealthIndicator {
+
+    private final Keycloak keycloak;
+
+    public KeycloakHealthIndicator(Keycloak keycloak) {
+        super("Keycloak admin client health check failed");
+        this.keycloak = keycloak;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+
+        String version = keycloak.serverInfo().getInfo().getSystemInfo().getVersion();
+
+        keycloak.tokenManager().getAccessToken();
+
+        builder.up().withDetail("version", version);
+
+    }
+
+}
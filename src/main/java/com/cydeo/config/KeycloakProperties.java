@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @Getter
 @Setter
@@ -34,4 +36,16 @@ public class KeycloakProperties {
     @Value("${master.client}")
     private String masterClient;
 
+    @Value("${master.connection-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${master.connection-ttl:5m}")
+    private Duration connectionTtl;
+
+    @Value("${master.min-token-validity:30s}")
+    private Duration minTokenValidity;
+
+    @Value("${security.roles-from-token:false}")
+    private boolean rolesFromToken;
+
 }
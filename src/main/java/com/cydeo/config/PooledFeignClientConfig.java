@@ -0,0 +1,74 @@
+package com.cydeo.config;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.TimeUnit;
+
+public class PooledFeignClientConfig {
+
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager(Environment environment, MeterRegistry meterRegistry) {
+
+        String clientName = environment.getRequiredProperty("feign.client.name");
+        FeignClientPoolProperties pool = poolProperties(environment);
+
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(pool.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+
+        connectionManager.setMaxTotal(pool.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxConnectionsPerRoute());
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, clientName).bindTo(meterRegistry);
+
+        return connectionManager;
+
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager, Environment environment) {
+
+        FeignClientPoolProperties pool = poolProperties(environment);
+        long keepAliveMillis = pool.getKeepAlive().toMillis();
+
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        };
+
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout((int) pool.getConnectionRequestTimeout().toMillis())
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(pool.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .disableCookieManagement()
+                .build();
+
+    }
+
+    @Bean
+    public Client feignClient(CloseableHttpClient feignHttpClient) {
+        return new ApacheHttpClient(feignHttpClient);
+    }
+
+    private FeignClientPoolProperties poolProperties(Environment environment) {
+        String clientName = environment.getRequiredProperty("feign.client.name");
+        return Binder.get(environment).bind("clients." + clientName + ".pool", FeignClientPoolProperties.class)
+                .orElseGet(FeignClientPoolProperties::new);
+    }
+
+}
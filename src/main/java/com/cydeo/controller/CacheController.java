@@ -0,0 +1,91 @@
+package com.cydeo.controller;
+
+import com.cydeo.dto.wrapper.ResponseWrapper;
+import com.cydeo.service.KeycloakService;
+import com.cydeo.service.ProjectService;
+import com.cydeo.service.UserService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.annotation.security.RolesAllowed;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+public class CacheController {
+
+    private final KeycloakService keycloakService;
+    private final ProjectService projectService;
+    private final UserService userService;
+
+    public CacheController(KeycloakService keycloakService, ProjectService projectService, UserService userService) {
+        this.keycloakService = keycloakService;
+        this.projectService = projectService;
+        this.userService = userService;
+    }
+
+    @RolesAllowed("Admin")
+    @DeleteMapping("/roles/{username}")
+    public ResponseEntity<ResponseWrapper> evictUserClientRoles(@PathVariable("username") String username) {
+
+        keycloakService.evictUserClientRoles(username);
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("User roles are successfully evicted from cache.")
+                        .build());
+
+    }
+
+    @RolesAllowed("Admin")
+    @DeleteMapping("/projects/{projectCode}")
+    public ResponseEntity<ResponseWrapper> evictProject(@PathVariable("projectCode") String projectCode) {
+
+        projectService.evictProject(projectCode);
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("Project is successfully evicted from cache.")
+                        .build());
+
+    }
+
+    @RolesAllowed("Admin")
+    @DeleteMapping("/users/{username}")
+    public ResponseEntity<ResponseWrapper> evictUser(@PathVariable("username") String username) {
+
+        userService.evictUser(username);
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("User is successfully evicted from cache.")
+                        .build());
+
+    }
+
+    @RolesAllowed("Admin")
+    @PutMapping("/client/refresh")
+    public ResponseEntity<ResponseWrapper> refreshClientUuid() {
+
+        keycloakService.refreshClientUuid();
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("Keycloak client is successfully refreshed.")
+                        .build());
+
+    }
+
+}
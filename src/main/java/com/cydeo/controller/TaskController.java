@@ -1,12 +1,18 @@
 package com.cydeo.controller;
 
 import com.cydeo.dto.wrapper.ResponseWrapper;
+import com.cydeo.dto.TaskBatchResultDTO;
 import com.cydeo.dto.TaskDTO;
+import com.cydeo.dto.TaskPageDTO;
+import com.cydeo.enums.ExportFormat;
 import com.cydeo.enums.Status;
 import com.cydeo.service.TaskService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.annotation.security.RolesAllowed;
 import javax.validation.Valid;
@@ -40,6 +46,22 @@ public class TaskController {
 
     }
 
+    @RolesAllowed("Manager")
+    @PostMapping("/create/batch")
+    public ResponseEntity<ResponseWrapper> createTasks(@RequestBody List<TaskDTO> taskDTOs) {
+
+        List<TaskBatchResultDTO> results = taskService.createAll(taskDTOs);
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("Tasks are successfully processed.")
+                        .data(results)
+                        .build());
+
+    }
+
     @RolesAllowed({"Manager", "Employee"})
     @GetMapping("/read/{taskCode}")
     public ResponseEntity<ResponseWrapper> getByTaskCode(@PathVariable("taskCode") String taskCode) {
@@ -72,6 +94,39 @@ public class TaskController {
 
     }
 
+    @RolesAllowed("Manager")
+    @GetMapping("/read/all/{projectCode}/page")
+    public ResponseEntity<ResponseWrapper> getTaskPageByProject(@PathVariable("projectCode") String projectCode,
+                                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                                @RequestParam(value = "size", required = false) Integer size) {
+
+        TaskPageDTO taskPage = taskService.readPageByProject(projectCode, cursor, size);
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("Tasks are successfully retrieved.")
+                        .data(taskPage)
+                        .build());
+
+    }
+
+    @RolesAllowed("Manager")
+    @GetMapping("/export/{projectCode}")
+    public ResponseEntity<StreamingResponseBody> exportTasksByProject(@PathVariable("projectCode") String projectCode,
+                                                                      @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format) {
+
+        StreamingResponseBody exportedTasks = taskService.exportByProject(projectCode, format);
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + projectCode + "-tasks." + format.getExtension() + "\"")
+                .body(exportedTasks);
+
+    }
+
     @RolesAllowed("Employee")
     @GetMapping("/read/employee/archive")
     public ResponseEntity<ResponseWrapper> employeeArchivedTasks() {
@@ -88,6 +143,23 @@ public class TaskController {
 
     }
 
+    @RolesAllowed("Employee")
+    @GetMapping("/read/employee/archive/page")
+    public ResponseEntity<ResponseWrapper> employeeArchivedTaskPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                    @RequestParam(value = "size", required = false) Integer size) {
+
+        TaskPageDTO taskPage = taskService.readPageByStatus(Status.COMPLETED, cursor, size);
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("Tasks are successfully retrieved.")
+                        .data(taskPage)
+                        .build());
+
+    }
+
     @RolesAllowed("Employee")
     @GetMapping("/read/employee/pending-tasks")
     public ResponseEntity<ResponseWrapper> employeePendingTasks() {
@@ -104,6 +176,23 @@ public class TaskController {
 
     }
 
+    @RolesAllowed("Employee")
+    @GetMapping("/read/employee/pending-tasks/page")
+    public ResponseEntity<ResponseWrapper> employeePendingTaskPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                   @RequestParam(value = "size", required = false) Integer size) {
+
+        TaskPageDTO taskPage = taskService.readPageByStatusIsNot(Status.COMPLETED, cursor, size);
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("Tasks are successfully retrieved.")
+                        .data(taskPage)
+                        .build());
+
+    }
+
     @RolesAllowed("Manager")
     @GetMapping("/count/project/{projectCode}")
     public ResponseEntity<ResponseWrapper> getCountsByProject(@PathVariable("projectCode") String projectCode) {
@@ -120,6 +209,22 @@ public class TaskController {
 
     }
 
+    @RolesAllowed("Manager")
+    @PostMapping("/count/projects")
+    public ResponseEntity<ResponseWrapper> getCountsByProjects(@RequestBody List<String> projectCodes) {
+
+        Map<String, Map<String, Integer>> taskCounts = taskService.getCountsByProjects(projectCodes);
+
+        return ResponseEntity
+                .ok(ResponseWrapper.builder()
+                        .success(true)
+                        .statusCode(HttpStatus.OK)
+                        .message("Task counts are successfully retrieved.")
+                        .data(taskCounts)
+                        .build());
+
+    }
+
     @RolesAllowed("Admin")
     @GetMapping("/count/employee/{assignedEmployee}")
     public ResponseEntity<ResponseWrapper> getCountByAssignedEmployee(@PathVariable("assignedEmployee") String assignedEmployee) {
@@ -174,13 +279,14 @@ public class TaskController {
     @PutMapping("/complete/project/{projectCode}")
     ResponseEntity<ResponseWrapper> completeByProject(@PathVariable("projectCode") String projectCode) {
 
-        taskService.completeByProject(projectCode);
+        int completedTaskCount = taskService.completeByProject(projectCode);
 
         return ResponseEntity
                 .ok(ResponseWrapper.builder()
                         .success(true)
                         .statusCode(HttpStatus.OK)
                         .message("Tasks are successfully completed.")
+                        .data(completedTaskCount)
                         .build());
 
     }
@@ -196,13 +302,14 @@ public class TaskController {
     @DeleteMapping("/delete/project/{projectCode}")
     ResponseEntity<ResponseWrapper> deleteByProject(@PathVariable("projectCode") String projectCode) {
 
-        taskService.deleteByProject(projectCode);
+        int deletedTaskCount = taskService.deleteByProject(projectCode);
 
         return ResponseEntity
                 .ok(ResponseWrapper.builder()
                         .success(true)
                         .statusCode(HttpStatus.OK)
                         .message("Tasks are successfully deleted.")
+                        .data(deletedTaskCount)
                         .build());
 
     }
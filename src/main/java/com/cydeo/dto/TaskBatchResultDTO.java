@@ -0,0 +1,19 @@
+package com.cydeo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchResultDTO {
+
+    private String taskCode;
+    private boolean success;
+    private String message;
+    private TaskDTO data;
+
+}
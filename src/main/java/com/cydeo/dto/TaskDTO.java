@@ -13,9 +13,7 @@ import java.time.LocalDate;
 
 @Getter
 @Setter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 @JsonIgnoreProperties(value = {"hibernateLazyInitializer"}, ignoreUnknown = true)
 public class TaskDTO {
 
@@ -43,4 +41,21 @@ public class TaskDTO {
     @NotBlank(message = "Assigned employee is required.")
     private String assignedEmployee;
 
+    /**
+     * Used by the JPQL constructor expressions in {@code TaskRepository#SELECT_TASK_DTO}; keep the parameter
+     * order in sync with that query. Everything else should go through {@link #builder()}.
+     */
+    @Builder
+    public TaskDTO(Long id, String taskCode, String taskSubject, String taskDetail, Status taskStatus,
+                   LocalDate assignedDate, String projectCode, String assignedEmployee) {
+        this.id = id;
+        this.taskCode = taskCode;
+        this.taskSubject = taskSubject;
+        this.taskDetail = taskDetail;
+        this.taskStatus = taskStatus;
+        this.assignedDate = assignedDate;
+        this.projectCode = projectCode;
+        this.assignedEmployee = assignedEmployee;
+    }
+
 }
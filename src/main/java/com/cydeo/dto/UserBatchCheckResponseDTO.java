@@ -0,0 +1,22 @@
+package com.cydeo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserBatchCheckResponseDTO {
+
+    private boolean success;
+    private HttpStatus statusCode;
+    private String message;
+    private Map<String, Boolean> data;
+
+}
@@ -0,0 +1,34 @@
+package com.cydeo.entity;
+
+import com.cydeo.enums.CounterScope;
+import com.cydeo.enums.Status;
+import com.cydeo.repository.projection.TaskStatusCount;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "task_counters")
+@IdClass(TaskCounterId.class)
+@NoArgsConstructor
+@Getter
+@Setter
+public class TaskCounter implements TaskStatusCount {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private CounterScope scope;
+
+    @Id
+    private String scopeKey;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private Status taskStatus;
+
+    @Column(nullable = false)
+    private Long taskCount;
+
+}
@@ -0,0 +1,24 @@
+package com.cydeo.entity;
+
+import com.cydeo.enums.CounterScope;
+import com.cydeo.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class TaskCounterId implements Serializable {
+
+    private CounterScope scope;
+    private String scopeKey;
+    private Status taskStatus;
+
+}
@@ -3,6 +3,8 @@ package com.cydeo.exception;
 import com.cydeo.dto.wrapper.ExceptionWrapper;
 import com.cydeo.dto.wrapper.ValidationExceptionWrapper;
 import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -76,6 +78,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(exceptionWrapper);
     }
 
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<ExceptionWrapper> handleUnavailableExceptions(Throwable exception) {
+        log.error(exception.getMessage());
+        ExceptionWrapper exceptionWrapper = ExceptionWrapper.builder()
+                .success(false)
+                .message(exception.getMessage())
+                .httpStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(exceptionWrapper);
+    }
+
     @ExceptionHandler({AccessDeniedException.class, TaskAccessDeniedException.class})
     public ResponseEntity<ExceptionWrapper> handleAccessExceptions(Throwable exception) {
         log.error(exception.getMessage());
@@ -87,6 +100,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(exceptionWrapper);
     }
 
+    @ExceptionHandler({InvalidCursorException.class, InvalidBatchException.class})
+    public ResponseEntity<ExceptionWrapper> handleBadRequestExceptions(Throwable exception) {
+        log.error(exception.getMessage());
+        ExceptionWrapper exceptionWrapper = ExceptionWrapper.builder()
+                .success(false)
+                .message(exception.getMessage())
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionWrapper);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionWrapper> handleValidationExceptions(MethodArgumentNotValidException exception) {
         log.error(exception.getMessage());
@@ -0,0 +1,72 @@
+package com.cydeo.repository;
+
+import com.cydeo.entity.TaskCounter;
+import com.cydeo.entity.TaskCounterId;
+import com.cydeo.enums.CounterScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounterId> {
+
+    String LIVE_COUNTS = "SELECT 'PROJECT' AS scope, project_code AS scope_key, task_status, COUNT(*) AS task_count " +
+            "FROM tasks WHERE is_deleted = false GROUP BY project_code, task_status " +
+            "UNION ALL " +
+            "SELECT 'EMPLOYEE', assigned_employee, task_status, COUNT(*) " +
+            "FROM tasks WHERE is_deleted = false GROUP BY assigned_employee, task_status";
+
+    List<TaskCounter> findAllByScopeAndScopeKey(CounterScope scope, String scopeKey);
+
+    List<TaskCounter> findAllByScopeAndScopeKeyIn(CounterScope scope, Collection<String> scopeKeys);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_counters (scope, scope_key, task_status, task_count) " +
+            "VALUES (?1, ?2, ?3, ?4) " +
+            "ON CONFLICT (scope, scope_key, task_status) " +
+            "DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count", nativeQuery = true)
+    void add(String scope, String scopeKey, String taskStatus, long delta);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM task_counters " +
+            "WHERE (scope = 'PROJECT' AND scope_key = ?1) " +
+            "OR (scope = 'EMPLOYEE' AND scope_key IN (SELECT DISTINCT assigned_employee FROM tasks WHERE project_code = ?1))", nativeQuery = true)
+    void deleteProjectCounters(String projectCode);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO task_counters (scope, scope_key, task_status, task_count) " +
+            "SELECT 'PROJECT', project_code, task_status, COUNT(*) FROM tasks " +
+            "WHERE project_code = ?1 AND is_deleted = false " +
+            "GROUP BY project_code, task_status " +
+            "UNION ALL " +
+            "SELECT 'EMPLOYEE', assigned_employee, task_status, COUNT(*) FROM tasks " +
+            "WHERE is_deleted = false AND assigned_employee IN (SELECT DISTINCT assigned_employee FROM tasks WHERE project_code = ?1) " +
+            "GROUP BY assigned_employee, task_status " +
+            "ON CONFLICT (scope, scope_key, task_status) DO UPDATE SET task_count = EXCLUDED.task_count", nativeQuery = true)
+    void insertProjectCounters(String projectCode);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(?1)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(long key);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE task_counters c SET task_count = a.task_count FROM (" + LIVE_COUNTS + ") a " +
+            "WHERE c.scope = a.scope AND c.scope_key = a.scope_key AND c.task_status = a.task_status " +
+            "AND c.task_count <> a.task_count", nativeQuery = true)
+    int updateDriftedCounters();
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE task_counters c SET task_count = 0 WHERE c.task_count <> 0 AND NOT EXISTS (" +
+            "SELECT 1 FROM tasks t WHERE t.is_deleted = false AND t.task_status = c.task_status " +
+            "AND ((c.scope = 'PROJECT' AND t.project_code = c.scope_key) " +
+            "OR (c.scope = 'EMPLOYEE' AND t.assigned_employee = c.scope_key)))", nativeQuery = true)
+    int resetOrphanCounters();
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO task_counters (scope, scope_key, task_status, task_count) " +
+            "SELECT a.scope, a.scope_key, a.task_status, a.task_count FROM (" + LIVE_COUNTS + ") a " +
+            "ON CONFLICT (scope, scope_key, task_status) DO NOTHING", nativeQuery = true)
+    int insertMissingCounters();
+
+}
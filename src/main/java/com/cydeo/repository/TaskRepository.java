@@ -1,31 +1,85 @@
 package com.cydeo.repository;
 
+import com.cydeo.dto.TaskDTO;
 import com.cydeo.entity.Task;
 import com.cydeo.enums.Status;
+import com.cydeo.repository.projection.ProjectTaskStatusCount;
+import com.cydeo.repository.projection.TaskStatusCount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    String SELECT_TASK_DTO = "SELECT new com.cydeo.dto.TaskDTO(t.id, t.taskCode, t.taskSubject, t.taskDetail, " +
+            "t.taskStatus, t.assignedDate, t.projectCode, t.assignedEmployee) FROM Task t ";
+
     Optional<Task> findByTaskCode(String taskCode);
 
-    List<Task> findAllByProjectCode(String projectCode);
+    @Query("SELECT t.taskCode FROM Task t WHERE t.taskCode IN ?1")
+    List<String> findExistingTaskCodes(Collection<String> taskCodes);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK_DTO + "WHERE t.projectCode = ?1")
+    List<TaskDTO> findAllDtosByProjectCode(String projectCode);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_TASK_DTO + "WHERE t.projectCode = ?1 ORDER BY t.id")
+    Stream<TaskDTO> streamAllDtosByProjectCode(String projectCode);
 
-    List<Task> findAllByTaskStatusIsNotAndAssignedEmployee(Status status, String assignedEmployee);
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK_DTO + "WHERE t.taskStatus <> ?1 AND t.assignedEmployee = ?2")
+    List<TaskDTO> findAllDtosByTaskStatusIsNotAndAssignedEmployee(Status status, String assignedEmployee);
 
-    List<Task> findAllByTaskStatusAndAssignedEmployee(Status status, String assignedEmployee);
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK_DTO + "WHERE t.taskStatus = ?1 AND t.assignedEmployee = ?2")
+    List<TaskDTO> findAllDtosByTaskStatusAndAssignedEmployee(Status status, String assignedEmployee);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK_DTO + "WHERE t.projectCode = ?1 AND t.id > ?2")
+    Slice<TaskDTO> findDtoSliceByProjectCode(String projectCode, Long id, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK_DTO + "WHERE t.assignedEmployee = ?1 AND t.taskStatus = ?2 AND t.id > ?3")
+    Slice<TaskDTO> findDtoSliceByAssignedEmployeeAndTaskStatus(String assignedEmployee, Status status, Long id, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK_DTO + "WHERE t.assignedEmployee = ?1 AND t.taskStatus <> ?2 AND t.id > ?3")
+    Slice<TaskDTO> findDtoSliceByAssignedEmployeeAndTaskStatusIsNot(String assignedEmployee, Status status, Long id, Pageable pageable);
 
     int countByAssignedEmployee(String assignedEmployee);
 
-    @Query(value = "SELECT COUNT(*)" +
-            "FROM tasks " +
-            "WHERE project_code = ?1 AND task_status = 'COMPLETED'", nativeQuery = true)
-    int totalCompletedTasks(String projectCode);
+    @Query("SELECT t.taskStatus AS taskStatus, COUNT(t) AS taskCount FROM Task t " +
+            "WHERE t.projectCode = ?1 GROUP BY t.taskStatus")
+    List<TaskStatusCount> countByProjectCodeGroupByStatus(String projectCode);
+
+    @Query("SELECT t.projectCode AS projectCode, t.taskStatus AS taskStatus, COUNT(t) AS taskCount FROM Task t " +
+            "WHERE t.projectCode IN ?1 GROUP BY t.projectCode, t.taskStatus")
+    List<ProjectTaskStatusCount> countByProjectCodesGroupByStatus(Collection<String> projectCodes);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.taskStatus = ?2, t.lastUpdateDateTime = ?3 " +
+            "WHERE t.projectCode = ?1 AND t.isDeleted = false")
+    int updateStatusByProjectCode(String projectCode, Status status, LocalDateTime lastUpdateDateTime);
 
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.projectCode = ?1 AND t.taskStatus <> 'COMPLETED'")
-    int totalNonCompletedTasks(String projectCode);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE tasks " +
+            "SET is_deleted = true, task_code = task_code || '-' || id, last_update_date_time = ?2 " +
+            "WHERE project_code = ?1 AND is_deleted = false", nativeQuery = true)
+    int softDeleteByProjectCode(String projectCode, LocalDateTime lastUpdateDateTime);
 
 }
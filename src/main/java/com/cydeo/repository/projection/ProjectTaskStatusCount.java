@@ -0,0 +1,7 @@
+package com.cydeo.repository.projection;
+
+public interface ProjectTaskStatusCount extends TaskStatusCount {
+
+    String getProjectCode();
+
+}
@@ -0,0 +1,11 @@
+package com.cydeo.repository.projection;
+
+import com.cydeo.enums.Status;
+
+public interface TaskStatusCount {
+
+    Status getTaskStatus();
+
+    Long getTaskCount();
+
+}
@@ -1,6 +1,8 @@
 package com.cydeo.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface KeycloakService {
 
@@ -12,4 +14,10 @@ public interface KeycloakService {
 
     boolean hasClientRole(String username, String role);
 
+    Set<String> filterByClientRole(Collection<String> usernames, String role);
+
+    void evictUserClientRoles(String username);
+
+    void refreshClientUuid();
+
 }
@@ -0,0 +1,13 @@
+package com.cydeo.service;
+
+import com.cydeo.dto.ProjectResponseDTO;
+
+public interface ProjectService {
+
+    ProjectResponseDTO getManagerByProjectCode(String projectCode);
+
+    ProjectResponseDTO checkByProjectCode(String projectCode);
+
+    void evictProject(String projectCode);
+
+}
@@ -0,0 +1,30 @@
+package com.cydeo.service;
+
+import com.cydeo.entity.Task;
+import com.cydeo.entity.TaskCounter;
+import com.cydeo.enums.Status;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface TaskCounterService {
+
+    void add(String projectCode, String assignedEmployee, Status status, long delta);
+
+    void addAll(Collection<Task> tasks, long delta);
+
+    void move(String previousProjectCode, String previousAssignedEmployee, Status previousStatus,
+              String projectCode, String assignedEmployee, Status status);
+
+    void recalculateProject(String projectCode);
+
+    List<TaskCounter> getProjectCounters(String projectCode);
+
+    Map<String, List<TaskCounter>> getProjectCounters(Collection<String> projectCodes);
+
+    int getEmployeeCount(String assignedEmployee);
+
+    void reconcile();
+
+}
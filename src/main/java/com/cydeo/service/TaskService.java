@@ -1,7 +1,11 @@
 package com.cydeo.service;
 
+import com.cydeo.dto.TaskBatchResultDTO;
 import com.cydeo.dto.TaskDTO;
+import com.cydeo.dto.TaskPageDTO;
+import com.cydeo.enums.ExportFormat;
 import com.cydeo.enums.Status;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -9,19 +13,25 @@ import java.util.Map;
 public interface TaskService {
 
     TaskDTO create(TaskDTO taskDTO);
+    List<TaskBatchResultDTO> createAll(List<TaskDTO> taskDTOs);
 
     TaskDTO readByTaskCode(String taskCode);
     List<TaskDTO> readAllTasksByProject(String projectCode);
     List<TaskDTO> readAllByStatus(Status status);
     List<TaskDTO> readAllByStatusIsNot(Status status);
+    TaskPageDTO readPageByProject(String projectCode, String cursor, Integer size);
+    TaskPageDTO readPageByStatus(Status status, String cursor, Integer size);
+    TaskPageDTO readPageByStatusIsNot(Status status, String cursor, Integer size);
+    StreamingResponseBody exportByProject(String projectCode, ExportFormat format);
     Map<String, Integer> getCountsByProject(String projectCode);
+    Map<String, Map<String, Integer>> getCountsByProjects(List<String> projectCodes);
     Integer getCountByAssignedEmployee(String assignedEmployee);
 
     TaskDTO update(String taskCode, TaskDTO taskDTO);
     TaskDTO updateStatus(String taskCode, Status status);
-    void completeByProject(String projectCode);
+    int completeByProject(String projectCode);
 
     void delete(String taskCode);
-    void deleteByProject(String projectCode);
+    int deleteByProject(String projectCode);
 
 }
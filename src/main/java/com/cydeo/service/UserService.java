@@ -0,0 +1,18 @@
+package com.cydeo.service;
+
+import com.cydeo.dto.UserResponseDTO;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface UserService {
+
+    UserResponseDTO checkByUserName(String userName);
+
+    Map<String, UserResponseDTO> checkByUserNames(Collection<String> userNames);
+
+    boolean isBulkCheckEnabled();
+
+    void evictUser(String userName);
+
+}
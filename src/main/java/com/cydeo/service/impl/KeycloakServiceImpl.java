@@ -3,27 +3,56 @@ package com.cydeo.service.impl;
 import com.cydeo.config.KeycloakProperties;
 import com.cydeo.exception.UserNotFoundException;
 import com.cydeo.service.KeycloakService;
+import com.cydeo.util.DependencyMetrics;
+import com.cydeo.util.RequestMemo;
+import com.github.benmanes.caffeine.cache.Cache;
 import org.keycloak.adapters.springsecurity.account.SimpleKeycloakAccount;
 import org.keycloak.adapters.springsecurity.token.KeycloakAuthenticationToken;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.RealmResource;
+import org.keycloak.admin.client.resource.RoleResource;
 import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.AccessToken;
 import org.keycloak.representations.idm.ClientRepresentation;
 import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class KeycloakServiceImpl implements KeycloakService {
 
+    private static final String KEYCLOAK = "keycloak";
+    private static final int ROLE_MEMBERS_PAGE_SIZE = 500;
+    private static final int ROLE_MEMBERS_MAX_PAGES = 4;
+
     private final KeycloakProperties keycloakProperties;
+    private final Keycloak keycloak;
+    private final Cache<String, List<String>> userClientRolesCache;
+    private final Cache<String, Boolean> clientRoleMembersCache;
+    private final DependencyMetrics dependencyMetrics;
+    private final RequestMemo requestMemo;
+
+    private volatile String clientUuid;
 
-    public KeycloakServiceImpl(KeycloakProperties keycloakProperties) {
+    public KeycloakServiceImpl(KeycloakProperties keycloakProperties, Keycloak keycloak, Cache<String, List<String>> userClientRolesCache,
+                               Cache<String, Boolean> clientRoleMembersCache,
+                               DependencyMetrics dependencyMetrics, RequestMemo requestMemo) {
         this.keycloakProperties = keycloakProperties;
+        this.keycloak = keycloak;
+        this.userClientRolesCache = userClientRolesCache;
+        this.clientRoleMembersCache = clientRoleMembersCache;
+        this.dependencyMetrics = dependencyMetrics;
+        this.requestMemo = requestMemo;
     }
 
     @Override
@@ -34,59 +63,157 @@ public class KeycloakServiceImpl implements KeycloakService {
 
     @Override
     public String getUsername() {
-        SimpleKeycloakAccount account = (SimpleKeycloakAccount) getAuthentication().getAccount();
-        return account.getKeycloakSecurityContext().getToken().getPreferredUsername();
+        return requestMemo.get("username", "", () -> {
+            SimpleKeycloakAccount account = (SimpleKeycloakAccount) getAuthentication().getAccount();
+            return account.getKeycloakSecurityContext().getToken().getPreferredUsername();
+        });
     }
 
     @Override
     public List<String> getUserClientRoles(String username) {
+        return requestMemo.get("userClientRoles", username, () -> {
+            if (keycloakProperties.isRolesFromToken() && isLoggedInUser(username)) {
+                return getTokenClientRoles();
+            }
+            return userClientRolesCache.get(username, this::fetchUserClientRoles);
+        });
+    }
 
-        try (Keycloak keycloak = getKeycloakInstance()) {
+    @Override
+    public boolean hasClientRole(String username, String role) {
+        List<String> userClientRoles = getUserClientRoles(username);
+        return userClientRoles.stream().anyMatch(eachRole -> eachRole.equals(role));
+    }
 
-            RealmResource realmResource = keycloak.realm(keycloakProperties.getRealm());
-            UsersResource usersResource = realmResource.users();
+    @Override
+    public Set<String> filterByClientRole(Collection<String> usernames, String role) {
 
-            List<UserRepresentation> userRepresentations = usersResource.search(username);
+        Set<String> usersWithRole = new HashSet<>();
+        Set<String> unresolvedUsers = new HashSet<>();
 
-            if (userRepresentations.isEmpty()) {
-                throw new UserNotFoundException("User not found!");
+        usernames.forEach(username -> {
+            List<String> userClientRoles = requestMemo.getIfPresent("userClientRoles", username);
+            if (userClientRoles == null) {
+                userClientRoles = userClientRolesCache.getIfPresent(username);
             }
+            if (userClientRoles != null) {
+                if (userClientRoles.contains(role)) {
+                    usersWithRole.add(username);
+                }
+            } else if (requestMemo.getIfPresent("clientRoleMembers", roleMemberKey(role, username)) != null
+                    || clientRoleMembersCache.getIfPresent(roleMemberKey(role, username)) != null) {
+                usersWithRole.add(username);
+            } else {
+                unresolvedUsers.add(username);
+            }
+        });
+
+        if (unresolvedUsers.size() > 1) {
+            Set<String> members = findRoleMembers(role, unresolvedUsers);
+            members.forEach(member -> {
+                clientRoleMembersCache.put(roleMemberKey(role, member), true);
+                requestMemo.put("clientRoleMembers", roleMemberKey(role, member), true);
+            });
+            usersWithRole.addAll(members);
+        }
 
-            ClientRepresentation appClient = realmResource.clients()
-                    .findByClientId(keycloakProperties.getClientId()).get(0);
+        return usersWithRole;
 
-            String clientId = appClient.getId();
+    }
 
-            UserRepresentation keycloakUser = userRepresentations.get(0);
+    @Override
+    public void evictUserClientRoles(String username) {
+        userClientRolesCache.invalidate(username);
+        clientRoleMembersCache.asMap().keySet().removeIf(key -> key.endsWith(roleMemberKey("", username)));
+        requestMemo.evict("userClientRoles", username);
+    }
 
-            List<RoleRepresentation> existingRoles = realmResource.users().get(keycloakUser.getId())
-                    .roles().clientLevel(clientId).listEffective();
+    @Override
+    @PostConstruct
+    public void refreshClientUuid() {
 
-            return existingRoles.stream()
-                    .map(RoleRepresentation::getName)
-                    .collect(Collectors.toList());
+        List<ClientRepresentation> clients = dependencyMetrics.record(KEYCLOAK, "clients.findByClientId",
+                () -> keycloak.realm(keycloakProperties.getRealm()).clients().findByClientId(keycloakProperties.getClientId()));
 
+        if (clients.isEmpty()) {
+            throw new IllegalStateException("Keycloak client cannot be resolved: " + keycloakProperties.getClientId());
         }
 
+        clientUuid = clients.get(0).getId();
+
     }
 
-    @Override
-    public boolean hasClientRole(String username, String role) {
-        List<String> userClientRoles = getUserClientRoles(username);
-        return userClientRoles.stream().anyMatch(eachRole -> eachRole.equals(role));
+    private List<String> fetchUserClientRoles(String username) {
+
+        RealmResource realmResource = keycloak.realm(keycloakProperties.getRealm());
+        UsersResource usersResource = realmResource.users();
+
+        List<UserRepresentation> userRepresentations = dependencyMetrics.record(KEYCLOAK, "users.search",
+                () -> usersResource.search(username));
+
+        if (userRepresentations.isEmpty()) {
+            throw new UserNotFoundException("User not found!");
+        }
+
+        UserRepresentation keycloakUser = userRepresentations.get(0);
+
+        List<RoleRepresentation> existingRoles = dependencyMetrics.record(KEYCLOAK, "roles.clientLevel.listEffective",
+                () -> usersResource.get(keycloakUser.getId()).roles().clientLevel(clientUuid).listEffective());
+
+        return existingRoles.stream()
+                .map(RoleRepresentation::getName)
+                .collect(Collectors.toList());
+
     }
 
-    private KeycloakAuthenticationToken getAuthentication() {
-        return (KeycloakAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+    private Set<String> findRoleMembers(String role, Set<String> usernames) {
+
+        RoleResource roleResource = keycloak.realm(keycloakProperties.getRealm()).clients().get(clientUuid).roles().get(role);
+
+        Set<String> members = new HashSet<>();
+        Set<UserRepresentation> page;
+        int first = 0;
+
+        do {
+            int offset = first;
+            page = dependencyMetrics.record(KEYCLOAK, "roles.userMembers",
+                    () -> roleResource.getRoleUserMembers(offset, ROLE_MEMBERS_PAGE_SIZE));
+            page.stream()
+                    .map(UserRepresentation::getUsername)
+                    .filter(usernames::contains)
+                    .forEach(members::add);
+            first += ROLE_MEMBERS_PAGE_SIZE;
+        } while (page.size() == ROLE_MEMBERS_PAGE_SIZE && members.size() < usernames.size()
+                && first < ROLE_MEMBERS_PAGE_SIZE * ROLE_MEMBERS_MAX_PAGES);
+
+        return members;
+
+    }
+
+    private String roleMemberKey(String role, String username) {
+        return role + "/" + username;
+    }
+
+    private boolean isLoggedInUser(String username) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication instanceof KeycloakAuthenticationToken && username.equals(getUsername());
+    }
+
+    private List<String> getTokenClientRoles() {
+
+        AccessToken.Access access = getAuthentication().getAccount().getKeycloakSecurityContext().getToken()
+                .getResourceAccess(keycloakProperties.getClientId());
+
+        if (access == null || access.getRoles() == null) {
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(access.getRoles());
+
     }
 
-    private Keycloak getKeycloakInstance() {
-        return Keycloak.getInstance(
-                keycloakProperties.getAuthServerUrl(),
-                keycloakProperties.getMasterRealm(),
-                keycloakProperties.getMasterUser(),
-                keycloakProperties.getMasterUserPswd(),
-                keycloakProperties.getMasterClient());
+    private KeycloakAuthenticationToken getAuthentication() {
+        return (KeycloakAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
     }
 
 }
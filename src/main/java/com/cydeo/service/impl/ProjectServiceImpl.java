@@ -0,0 +1,105 @@
+package com.cydeo.service.impl;
+
+import com.cydeo.client.ProjectClient;
+import com.cydeo.dto.ProjectResponseDTO;
+import com.cydeo.service.KeycloakService;
+import com.cydeo.service.ProjectService;
+import com.cydeo.util.RequestMemo;
+import com.github.benmanes.caffeine.cache.Cache;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class ProjectServiceImpl implements ProjectService {
+
+    private static final String PROJECT_SERVICE = "project-service";
+
+    private final ProjectClient projectClient;
+    private final KeycloakService keycloakService;
+    private final Cache<String, ProjectResponseDTO> projectManagerCache;
+    private final Cache<String, ProjectResponseDTO> projectExistsCache;
+    private final Cache<String, ProjectResponseDTO> lastKnownManagerCache;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RequestMemo requestMemo;
+
+    public ProjectServiceImpl(ProjectClient projectClient, KeycloakService keycloakService,
+                              @Qualifier("projectManagerCache") Cache<String, ProjectResponseDTO> projectManagerCache,
+                              @Qualifier("projectExistsCache") Cache<String, ProjectResponseDTO> projectExistsCache,
+                              @Qualifier("lastKnownManagerCache") Cache<String, ProjectResponseDTO> lastKnownManagerCache,
+                              CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                              RequestMemo requestMemo) {
+        this.projectClient = projectClient;
+        this.keycloakService = keycloakService;
+        this.projectManagerCache = projectManagerCache;
+        this.projectExistsCache = projectExistsCache;
+        this.lastKnownManagerCache = lastKnownManagerCache;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(PROJECT_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(PROJECT_SERVICE);
+        this.requestMemo = requestMemo;
+    }
+
+    @Override
+    public ProjectResponseDTO getManagerByProjectCode(String projectCode) {
+        return requestMemo.get("projectManager", projectCode, () -> loadManager(projectCode));
+    }
+
+    @Override
+    public ProjectResponseDTO checkByProjectCode(String projectCode) {
+        return requestMemo.get("projectExists", projectCode, () -> projectExistsCache.get(projectCode, code ->
+                call(() -> projectClient.checkByProjectCode(keycloakService.getAccessToken(), code).getBody())));
+    }
+
+    @Override
+    public void evictProject(String projectCode) {
+        projectManagerCache.invalidate(projectCode);
+        projectExistsCache.invalidate(projectCode);
+        lastKnownManagerCache.invalidate(projectCode);
+        requestMemo.evict("projectManager", projectCode);
+        requestMemo.evict("projectExists", projectCode);
+    }
+
+    private ProjectResponseDTO loadManager(String projectCode) {
+        try {
+            return projectManagerCache.get(projectCode, this::fetchManager);
+        } catch (CallNotPermittedException | BulkheadFullException | FeignException.FeignServerException |
+                 RetryableException exception) {
+            ProjectResponseDTO lastKnownManager = lastKnownManagerCache.getIfPresent(projectCode);
+            if (lastKnownManager == null) {
+                throw exception;
+            }
+            log.warn("Using last known manager of project {}: {}", projectCode, exception.getMessage());
+            return lastKnownManager;
+        }
+    }
+
+    private ProjectResponseDTO fetchManager(String projectCode) {
+
+        ProjectResponseDTO response =
+                call(() -> projectClient.getManagerByProjectCode(keycloakService.getAccessToken(), projectCode).getBody());
+
+        if (response != null && response.isSuccess()) {
+            lastKnownManagerCache.put(projectCode, response);
+        }
+
+        return response;
+
+    }
+
+    private ProjectResponseDTO call(Supplier<ProjectResponseDTO> supplier) {
+        return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, supplier));
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.cydeo.service.impl;
+
+import com.cydeo.entity.Task;
+import com.cydeo.entity.TaskCounter;
+import com.cydeo.entity.TaskCounterId;
+import com.cydeo.enums.CounterScope;
+import com.cydeo.enums.Status;
+import com.cydeo.repository.TaskCounterRepository;
+import com.cydeo.service.TaskCounterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TaskCounterServiceImpl implements TaskCounterService {
+
+    private static final Comparator<TaskCounterId> LOCK_ORDER = Comparator.comparing(TaskCounterId::getScope)
+            .thenComparing(TaskCounterId::getScopeKey)
+            .thenComparing(TaskCounterId::getTaskStatus);
+
+    private static final long RECONCILE_LOCK_KEY = 7_461_736_303_001L;
+
+    private final TaskCounterRepository taskCounterRepository;
+
+    public TaskCounterServiceImpl(TaskCounterRepository taskCounterRepository) {
+        this.taskCounterRepository = taskCounterRepository;
+    }
+
+    @Override
+    @Transactional
+    public void add(String projectCode, String assignedEmployee, Status status, long delta) {
+
+        Map<TaskCounterId, Long> deltas = new HashMap<>();
+
+        deltas.put(new TaskCounterId(CounterScope.PROJECT, projectCode, status), delta);
+        deltas.put(new TaskCounterId(CounterScope.EMPLOYEE, assignedEmployee, status), delta);
+
+        apply(deltas);
+
+    }
+
+    @Override
+    @Transactional
+    public void addAll(Collection<Task> tasks, long delta) {
+
+        Map<TaskCounterId, Long> deltas = new HashMap<>();
+
+        tasks.forEach(task -> {
+            deltas.merge(new TaskCounterId(CounterScope.PROJECT, task.getProjectCode(), task.getTaskStatus()), delta, Long::sum);
+            deltas.merge(new TaskCounterId(CounterScope.EMPLOYEE, task.getAssignedEmployee(), task.getTaskStatus()), delta, Long::sum);
+        });
+
+        apply(deltas);
+
+    }
+
+    @Override
+    @Transactional
+    public void move(String previousProjectCode, String previousAssignedEmployee, Status previousStatus,
+                     String projectCode, String assignedEmployee, Status status) {
+
+        Map<TaskCounterId, Long> deltas = new HashMap<>();
+
+        deltas.merge(new TaskCounterId(CounterScope.PROJECT, previousProjectCode, previousStatus), -1L, Long::sum);
+        deltas.merge(new TaskCounterId(CounterScope.EMPLOYEE, previousAssignedEmployee, previousStatus), -1L, Long::sum);
+        deltas.merge(new TaskCounterId(CounterScope.PROJECT, projectCode, status), 1L, Long::sum);
+        deltas.merge(new TaskCounterId(CounterScope.EMPLOYEE, assignedEmployee, status), 1L, Long::sum);
+
+        apply(deltas);
+
+    }
+
+    @Override
+    @Transactional
+    public void recalculateProject(String projectCode) {
+        taskCounterRepository.deleteProjectCounters(projectCode);
+        taskCounterRepository.insertProjectCounters(projectCode);
+    }
+
+    @Override
+    public List<TaskCounter> getProjectCounters(String projectCode) {
+        return taskCounterRepository.findAllByScopeAndScopeKey(CounterScope.PROJECT, projectCode);
+    }
+
+    @Override
+    public Map<String, List<TaskCounter>> getProjectCounters(Collection<String> projectCodes) {
+        return taskCounterRepository.findAllByScopeAndScopeKeyIn(CounterScope.PROJECT, projectCodes).stream()
+                .collect(Collectors.groupingBy(TaskCounter::getScopeKey));
+    }
+
+    @Override
+    public int getEmployeeCount(String assignedEmployee) {
+        return taskCounterRepository.findAllByScopeAndScopeKey(CounterScope.EMPLOYEE, assignedEmployee).stream()
+                .mapToInt(taskCounter -> taskCounter.getTaskCount().intValue())
+                .sum();
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${counters.reconcile-cron:0 0 * * * *}")
+    public void reconcile() {
+
+        if (!taskCounterRepository.tryAdvisoryTransactionLock(RECONCILE_LOCK_KEY)) {
+            log.info("Task counter reconciliation is already running on another instance.");
+            return;
+        }
+
+        int correctedCount = taskCounterRepository.updateDriftedCounters()
+                + taskCounterRepository.resetOrphanCounters()
+                + taskCounterRepository.insertMissingCounters();
+
+        log.info("Task counters are reconciled, {} counter(s) corrected.", correctedCount);
+
+    }
+
+    private void apply(Map<TaskCounterId, Long> deltas) {
+        deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(LOCK_ORDER))
+                .forEach(entry -> taskCounterRepository.add(entry.getKey().getScope().name(),
+                        entry.getKey().getScopeKey(), entry.getKey().getTaskStatus().name(), entry.getValue()));
+    }
+
+}
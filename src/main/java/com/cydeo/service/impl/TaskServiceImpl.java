@@ -1,39 +1,84 @@
 package com.cydeo.service.impl;
 
-import com.cydeo.client.ProjectClient;
-import com.cydeo.client.UserClient;
 import com.cydeo.dto.ProjectResponseDTO;
+import com.cydeo.dto.TaskBatchResultDTO;
 import com.cydeo.dto.TaskDTO;
+import com.cydeo.dto.TaskPageDTO;
 import com.cydeo.dto.UserResponseDTO;
+import com.cydeo.config.BatchProperties;
+import com.cydeo.config.PaginationProperties;
 import com.cydeo.entity.Task;
+import com.cydeo.enums.ExportFormat;
 import com.cydeo.enums.Status;
 import com.cydeo.exception.*;
 import com.cydeo.repository.TaskRepository;
+import com.cydeo.repository.projection.ProjectTaskStatusCount;
+import com.cydeo.repository.projection.TaskStatusCount;
 import com.cydeo.service.KeycloakService;
+import com.cydeo.service.ProjectService;
+import com.cydeo.service.TaskCounterService;
 import com.cydeo.service.TaskService;
+import com.cydeo.service.UserService;
+import com.cydeo.util.CursorUtil;
 import com.cydeo.util.MapperUtil;
-import org.springframework.http.ResponseEntity;
+import com.cydeo.util.ParallelExecutor;
+import com.cydeo.util.TaskExportWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
     private final MapperUtil mapperUtil;
-    private final ProjectClient projectClient;
-    private final UserClient userClient;
+    private final ProjectService projectService;
+    private final UserService userService;
     private final KeycloakService keycloakService;
-
-    public TaskServiceImpl(TaskRepository taskRepository, MapperUtil mapperUtil, ProjectClient projectClient, UserClient userClient, KeycloakService keycloakService) {
+    private final ParallelExecutor parallelExecutor;
+    private final Validator validator;
+    private final PaginationProperties paginationProperties;
+    private final BatchProperties batchProperties;
+    private final TaskExportWriter taskExportWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TaskCounterService taskCounterService;
+    private final boolean countersEnabled;
+
+    public TaskServiceImpl(TaskRepository taskRepository, MapperUtil mapperUtil, ProjectService projectService, UserService userService, KeycloakService keycloakService, ParallelExecutor parallelExecutor, Validator validator, PaginationProperties paginationProperties, BatchProperties batchProperties, TaskExportWriter taskExportWriter, PlatformTransactionManager transactionManager, TaskCounterService taskCounterService, @Value("${counters.read-enabled:true}") boolean countersEnabled) {
         this.taskRepository = taskRepository;
         this.mapperUtil = mapperUtil;
-        this.projectClient = projectClient;
-        this.userClient = userClient;
+        this.projectService = projectService;
+        this.userService = userService;
         this.keycloakService = keycloakService;
+        this.parallelExecutor = parallelExecutor;
+        this.validator = validator;
+        this.paginationProperties = paginationProperties;
+        this.batchProperties = batchProperties;
+        this.taskExportWriter = taskExportWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.taskCounterService = taskCounterService;
+        this.countersEnabled = countersEnabled;
     }
 
 
@@ -46,17 +91,83 @@ public class TaskServiceImpl implements TaskService {
             throw new TaskAlreadyExistsException("Task already exists.");
         }
 
-        checkProjectExists(taskDTO.getProjectCode());
-        checkManagerAccess(keycloakService.getUsername(), taskDTO.getProjectCode());
-        checkEmployeeExists(taskDTO.getAssignedEmployee());
+        String loggedInUserUsername = keycloakService.getUsername();
 
-        Task taskToSave = mapperUtil.convert(taskDTO, new Task());
+        parallelExecutor.runAll(
+                () -> checkProjectExists(taskDTO.getProjectCode()),
+                () -> checkManagerAccess(loggedInUserUsername, taskDTO.getProjectCode()),
+                () -> checkEmployeeExists(taskDTO.getAssignedEmployee()));
+
+        Task taskToSave = mapperUtil.convert(taskDTO, Task.class);
         taskToSave.setTaskStatus(Status.OPEN);
         taskToSave.setAssignedDate(LocalDate.now());
 
-        Task savedTask = taskRepository.save(taskToSave);
+        Task savedTask = transactionTemplate.execute(status -> {
+            Task task = taskRepository.save(taskToSave);
+            taskCounterService.add(task.getProjectCode(), task.getAssignedEmployee(), task.getTaskStatus(), 1);
+            return task;
+        });
+
+        return mapperUtil.convert(savedTask, TaskDTO.class);
+
+    }
+
+    @Override
+    public List<TaskBatchResultDTO> createAll(List<TaskDTO> taskDTOs) {
+
+        if (taskDTOs.size() > batchProperties.getCreateMaxSize()) {
+            throw new InvalidBatchException("Batch cannot contain more than " + batchProperties.getCreateMaxSize() + " tasks.");
+        }
+
+        Map<TaskDTO, String> failures = new IdentityHashMap<>();
+        Set<String> taskCodes = new HashSet<>();
+
+        taskDTOs.forEach(taskDTO -> {
+            if (taskDTO == null) {
+                failures.put(null, "Task must not be null.");
+                return;
+            }
+            Set<ConstraintViolation<TaskDTO>> violations = validator.validate(taskDTO);
+            if (!violations.isEmpty()) {
+                failures.put(taskDTO, violations.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining(" ")));
+            } else if (!taskCodes.add(taskDTO.getTaskCode())) {
+                failures.put(taskDTO, "Task code is duplicated in the request.");
+            }
+        });
+
+        Set<String> existingTaskCodes = taskCodes.isEmpty() ? Collections.emptySet()
+                : new HashSet<>(taskRepository.findExistingTaskCodes(taskCodes));
+
+        taskDTOs.stream()
+                .filter(taskDTO -> !failures.containsKey(taskDTO) && existingTaskCodes.contains(taskDTO.getTaskCode()))
+                .forEach(taskDTO -> failures.put(taskDTO, "Task already exists."));
 
-        return mapperUtil.convert(savedTask, new TaskDTO());
+        List<TaskDTO> candidates = taskDTOs.stream()
+                .filter(taskDTO -> !failures.containsKey(taskDTO))
+                .collect(Collectors.toList());
+
+        checkBatchReferences(candidates, failures);
+
+        List<TaskDTO> tasksToSave = candidates.stream()
+                .filter(taskDTO -> !failures.containsKey(taskDTO))
+                .collect(Collectors.toList());
+
+        Map<String, Task> savedTasks = saveBatch(tasksToSave, failures);
+
+        return taskDTOs.stream()
+                .map(taskDTO -> failures.containsKey(taskDTO)
+                        ? TaskBatchResultDTO.builder()
+                        .taskCode(taskDTO == null ? null : taskDTO.getTaskCode())
+                        .success(false)
+                        .message(failures.get(taskDTO))
+                        .build()
+                        : TaskBatchResultDTO.builder()
+                        .taskCode(taskDTO.getTaskCode())
+                        .success(true)
+                        .message("Task is successfully created.")
+                        .data(mapperUtil.convert(savedTasks.get(taskDTO.getTaskCode()), TaskDTO.class))
+                        .build())
+                .collect(Collectors.toList());
 
     }
 
@@ -68,15 +179,14 @@ public class TaskServiceImpl implements TaskService {
 
         checkAccess(task);
 
-        return mapperUtil.convert(task, new TaskDTO());
+        return mapperUtil.convert(task, TaskDTO.class);
 
     }
 
     @Override
     public List<TaskDTO> readAllTasksByProject(String projectCode) {
         checkManagerAccess(keycloakService.getUsername(), projectCode);
-        List<Task> list = taskRepository.findAllByProjectCode(projectCode);
-        return list.stream().map(obj -> mapperUtil.convert(obj, new TaskDTO())).collect(Collectors.toList());
+        return taskRepository.findAllDtosByProjectCode(projectCode);
     }
 
     @Override
@@ -84,9 +194,7 @@ public class TaskServiceImpl implements TaskService {
 
         String loggedInUserUsername = keycloakService.getUsername();
 
-        List<Task> tasks = taskRepository.findAllByTaskStatusAndAssignedEmployee(status, loggedInUserUsername);
-
-        return tasks.stream().map(task -> mapperUtil.convert(task, new TaskDTO())).collect(Collectors.toList());
+        return taskRepository.findAllDtosByTaskStatusAndAssignedEmployee(status, loggedInUserUsername);
 
     }
 
@@ -95,9 +203,56 @@ public class TaskServiceImpl implements TaskService {
 
         String loggedInUserUsername = keycloakService.getUsername();
 
-        List<Task> list = taskRepository.findAllByTaskStatusIsNotAndAssignedEmployee(status, loggedInUserUsername);
+        return taskRepository.findAllDtosByTaskStatusIsNotAndAssignedEmployee(status, loggedInUserUsername);
 
-        return list.stream().map(obj -> mapperUtil.convert(obj, new TaskDTO())).collect(Collectors.toList());
+    }
+
+    @Override
+    public TaskPageDTO readPageByProject(String projectCode, String cursor, Integer size) {
+        checkManagerAccess(keycloakService.getUsername(), projectCode);
+        Slice<TaskDTO> tasks = taskRepository.findDtoSliceByProjectCode(projectCode, CursorUtil.decode(cursor), pageRequest(size));
+        return toPage(tasks);
+    }
+
+    @Override
+    public TaskPageDTO readPageByStatus(Status status, String cursor, Integer size) {
+
+        String loggedInUserUsername = keycloakService.getUsername();
+
+        Slice<TaskDTO> tasks = taskRepository.findDtoSliceByAssignedEmployeeAndTaskStatus(
+                loggedInUserUsername, status, CursorUtil.decode(cursor), pageRequest(size));
+
+        return toPage(tasks);
+
+    }
+
+    @Override
+    public TaskPageDTO readPageByStatusIsNot(Status status, String cursor, Integer size) {
+
+        String loggedInUserUsername = keycloakService.getUsername();
+
+        Slice<TaskDTO> tasks = taskRepository.findDtoSliceByAssignedEmployeeAndTaskStatusIsNot(
+                loggedInUserUsername, status, CursorUtil.decode(cursor), pageRequest(size));
+
+        return toPage(tasks);
+
+    }
+
+    @Override
+    public StreamingResponseBody exportByProject(String projectCode, ExportFormat format) {
+
+        checkManagerAccess(keycloakService.getUsername(), projectCode);
+
+        return outputStream -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+
+            try (Stream<TaskDTO> taskDTOs = taskRepository.streamAllDtosByProjectCode(projectCode)) {
+                taskExportWriter.write(format, taskDTOs, outputStream);
+
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+
+        });
 
     }
 
@@ -106,22 +261,58 @@ public class TaskServiceImpl implements TaskService {
 
         checkManagerAccess(keycloakService.getUsername(), projectCode);
 
-        int completedTaskCount = taskRepository.totalCompletedTasks(projectCode);
-        int nonCompletedTaskCount = taskRepository.totalNonCompletedTasks(projectCode);
+        if (countersEnabled) {
+            return toTaskCounts(taskCounterService.getProjectCounters(projectCode));
+        }
 
-        Map<String, Integer> taskCounts = new HashMap<>();
+        return toTaskCounts(taskRepository.countByProjectCodeGroupByStatus(projectCode));
 
-        taskCounts.put("completedTaskCount", completedTaskCount);
-        taskCounts.put("nonCompletedTaskCount", nonCompletedTaskCount);
+    }
 
-        return taskCounts;
+    @Override
+    public Map<String, Map<String, Integer>> getCountsByProjects(List<String> projectCodes) {
+
+        if (projectCodes.size() > batchProperties.getCountProjectsMaxSize()) {
+            throw new InvalidBatchException("Cannot count more than " + batchProperties.getCountProjectsMaxSize() + " projects at once.");
+        }
+
+        if (projectCodes.stream().anyMatch(projectCode -> projectCode == null || projectCode.isBlank())) {
+            throw new InvalidBatchException("Project codes must not be blank.");
+        }
+
+        List<String> distinctProjectCodes = projectCodes.stream().distinct().collect(Collectors.toList());
+
+        String loggedInUserUsername = keycloakService.getUsername();
+
+        parallelExecutor.runAll(distinctProjectCodes.stream()
+                .map(projectCode -> (Runnable) () -> checkManagerAccess(loggedInUserUsername, projectCode))
+                .toArray(Runnable[]::new));
+
+        Map<String, ? extends List<? extends TaskStatusCount>> statusCountsByProject;
+
+        if (distinctProjectCodes.isEmpty()) {
+            statusCountsByProject = Collections.emptyMap();
+        } else if (countersEnabled) {
+            statusCountsByProject = taskCounterService.getProjectCounters(distinctProjectCodes);
+        } else {
+            statusCountsByProject = taskRepository.countByProjectCodesGroupByStatus(distinctProjectCodes).stream()
+                    .collect(Collectors.groupingBy(ProjectTaskStatusCount::getProjectCode));
+        }
+
+        Map<String, Map<String, Integer>> taskCountsByProject = new LinkedHashMap<>();
+
+        distinctProjectCodes.forEach(projectCode -> taskCountsByProject.put(projectCode,
+                toTaskCounts(statusCountsByProject.containsKey(projectCode) ? statusCountsByProject.get(projectCode) : Collections.emptyList())));
+
+        return taskCountsByProject;
 
     }
 
     @Override
     public Integer getCountByAssignedEmployee(String assignedEmployee) {
         checkEmployeeExists(assignedEmployee);
-        return taskRepository.countByAssignedEmployee(assignedEmployee);
+        return countersEnabled ? taskCounterService.getEmployeeCount(assignedEmployee)
+                : taskRepository.countByAssignedEmployee(assignedEmployee);
     }
 
     @Override
@@ -130,20 +321,32 @@ public class TaskServiceImpl implements TaskService {
         Task foundTask = taskRepository.findByTaskCode(taskCode)
                 .orElseThrow(() -> new TaskNotFoundException("Task does not exist."));
 
-        checkEmployeeExists(taskDTO.getAssignedEmployee());
-        checkManagerAccess(keycloakService.getUsername(), foundTask.getProjectCode());
-        checkProjectExists(taskDTO.getProjectCode());
+        String loggedInUserUsername = keycloakService.getUsername();
+
+        parallelExecutor.runAll(
+                () -> checkEmployeeExists(taskDTO.getAssignedEmployee()),
+                () -> checkManagerAccess(loggedInUserUsername, foundTask.getProjectCode()),
+                () -> checkProjectExists(taskDTO.getProjectCode()));
 
-        Task taskToUpdate = mapperUtil.convert(taskDTO, new Task());
+        Task taskToUpdate = mapperUtil.convert(taskDTO, Task.class);
 
         taskToUpdate.setId(foundTask.getId());
         taskToUpdate.setTaskCode(taskCode);
         taskToUpdate.setTaskStatus(taskDTO.getTaskStatus() == null ? foundTask.getTaskStatus() : taskDTO.getTaskStatus());
         taskToUpdate.setAssignedDate(LocalDate.now());
 
-        Task updatedTask = taskRepository.save(taskToUpdate);
+        String previousProjectCode = foundTask.getProjectCode();
+        String previousAssignedEmployee = foundTask.getAssignedEmployee();
+        Status previousStatus = foundTask.getTaskStatus();
 
-        return mapperUtil.convert(updatedTask, new TaskDTO());
+        Task updatedTask = transactionTemplate.execute(status -> {
+            Task task = taskRepository.save(taskToUpdate);
+            taskCounterService.move(previousProjectCode, previousAssignedEmployee, previousStatus,
+                    task.getProjectCode(), task.getAssignedEmployee(), task.getTaskStatus());
+            return task;
+        });
+
+        return mapperUtil.convert(updatedTask, TaskDTO.class);
 
     }
 
@@ -155,24 +358,30 @@ public class TaskServiceImpl implements TaskService {
 
         checkEmployeeAccess(keycloakService.getUsername(), foundTask);
 
+        Status previousStatus = foundTask.getTaskStatus();
+
         foundTask.setTaskStatus(status);
 
-        Task updatedTask = taskRepository.save(foundTask);
+        Task updatedTask = transactionTemplate.execute(transactionStatus -> {
+            Task task = taskRepository.save(foundTask);
+            taskCounterService.move(task.getProjectCode(), task.getAssignedEmployee(), previousStatus,
+                    task.getProjectCode(), task.getAssignedEmployee(), task.getTaskStatus());
+            return task;
+        });
 
-        return mapperUtil.convert(updatedTask, new TaskDTO());
+        return mapperUtil.convert(updatedTask, TaskDTO.class);
 
     }
 
     @Override
-    public void completeByProject(String projectCode) {
+    public int completeByProject(String projectCode) {
 
         checkManagerAccess(keycloakService.getUsername(), projectCode);
 
-        List<Task> tasks = taskRepository.findAllByProjectCode(projectCode);
-
-        tasks.forEach(task -> {
-            task.setTaskStatus(Status.COMPLETED);
-            taskRepository.save(task);
+        return transactionTemplate.execute(status -> {
+            int completedTaskCount = taskRepository.updateStatusByProjectCode(projectCode, Status.COMPLETED, LocalDateTime.now());
+            taskCounterService.recalculateProject(projectCode);
+            return completedTaskCount;
         });
 
     }
@@ -188,36 +397,178 @@ public class TaskServiceImpl implements TaskService {
         taskToDelete.setIsDeleted(true);
         taskToDelete.setTaskCode(taskCode + "-" + taskToDelete.getId());
 
-        taskRepository.save(taskToDelete);
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.save(taskToDelete);
+            taskCounterService.add(taskToDelete.getProjectCode(), taskToDelete.getAssignedEmployee(), taskToDelete.getTaskStatus(), -1);
+        });
 
     }
 
     @Override
-    public void deleteByProject(String projectCode) {
+    public int deleteByProject(String projectCode) {
 
         checkManagerAccess(keycloakService.getUsername(), projectCode);
 
-        List<Task> tasks = taskRepository.findAllByProjectCode(projectCode);
+        return transactionTemplate.execute(status -> {
+            int deletedTaskCount = taskRepository.softDeleteByProjectCode(projectCode, LocalDateTime.now());
+            taskCounterService.recalculateProject(projectCode);
+            return deletedTaskCount;
+        });
 
-        tasks.forEach(taskToDelete -> {
-            taskToDelete.setIsDeleted(true);
-            taskToDelete.setTaskCode(taskToDelete.getTaskCode() + "-" + taskToDelete.getId());
-            taskRepository.save(taskToDelete);
+    }
+
+    private Map<String, Integer> toTaskCounts(List<? extends TaskStatusCount> statusCounts) {
+
+        Map<Status, Integer> countsByStatus = new EnumMap<>(Status.class);
+
+        Arrays.stream(Status.values()).forEach(status -> countsByStatus.put(status, 0));
+        statusCounts.forEach(statusCount -> countsByStatus.put(statusCount.getTaskStatus(), statusCount.getTaskCount().intValue()));
+
+        int completedTaskCount = countsByStatus.get(Status.COMPLETED);
+        int totalTaskCount = countsByStatus.values().stream().mapToInt(Integer::intValue).sum();
+
+        Map<String, Integer> taskCounts = new LinkedHashMap<>();
+
+        taskCounts.put("completedTaskCount", completedTaskCount);
+        taskCounts.put("nonCompletedTaskCount", totalTaskCount - completedTaskCount);
+        countsByStatus.forEach((status, count) -> taskCounts.put(status.name(), count));
+
+        return taskCounts;
+
+    }
+
+    private Pageable pageRequest(Integer size) {
+
+        int pageSize = size == null ? paginationProperties.getDefaultSize()
+                : Math.min(Math.max(size, 1), paginationProperties.getMaxSize());
+
+        return PageRequest.of(0, pageSize, Sort.by("id"));
+
+    }
+
+    private TaskPageDTO toPage(Slice<TaskDTO> tasks) {
+
+        List<TaskDTO> content = tasks.getContent();
+
+        String nextCursor = tasks.hasNext() ? CursorUtil.encode(tasks.getContent().get(tasks.getNumberOfElements() - 1).getId()) : null;
+
+        return TaskPageDTO.builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(nextCursor)
+                .build();
+
+    }
+
+    private Map<String, Task> saveBatch(List<TaskDTO> taskDTOs, Map<TaskDTO, String> failures) {
+
+        Map<String, Task> savedTasks = new HashMap<>();
+
+        try {
+            List<Task> tasks = transactionTemplate.execute(status -> {
+                List<Task> savedTaskList = taskRepository.saveAll(taskDTOs.stream().map(this::toNewTask).collect(Collectors.toList()));
+                taskCounterService.addAll(savedTaskList, 1);
+                return savedTaskList;
+            });
+            Objects.requireNonNull(tasks).forEach(task -> savedTasks.put(task.getTaskCode(), task));
+        } catch (DataIntegrityViolationException exception) {
+            taskDTOs.forEach(taskDTO -> {
+                try {
+                    Task task = transactionTemplate.execute(status -> {
+                        Task savedTask = taskRepository.save(toNewTask(taskDTO));
+                        taskCounterService.add(savedTask.getProjectCode(), savedTask.getAssignedEmployee(), savedTask.getTaskStatus(), 1);
+                        return savedTask;
+                    });
+                    savedTasks.put(Objects.requireNonNull(task).getTaskCode(), task);
+                } catch (DataIntegrityViolationException taskException) {
+                    failures.put(taskDTO, "Task already exists.");
+                }
+            });
+        }
+
+        return savedTasks;
+
+    }
+
+    private Task toNewTask(TaskDTO taskDTO) {
+        Task task = mapperUtil.convert(taskDTO, Task.class);
+        task.setTaskStatus(Status.OPEN);
+        task.setAssignedDate(LocalDate.now());
+        return task;
+    }
+
+    private void checkBatchReferences(List<TaskDTO> candidates, Map<TaskDTO, String> failures) {
+
+        List<String> projectCodes = candidates.stream().map(TaskDTO::getProjectCode).distinct().collect(Collectors.toList());
+        List<String> employees = candidates.stream().map(TaskDTO::getAssignedEmployee).distinct().collect(Collectors.toList());
+
+        String loggedInUserUsername = keycloakService.getUsername();
+
+        Set<String> confirmedEmployees = employees.isEmpty() ? Collections.emptySet()
+                : keycloakService.filterByClientRole(employees, "Employee");
+        Set<String> bulkCheckedEmployees = userService.isBulkCheckEnabled() && confirmedEmployees.size() > 1
+                ? confirmedEmployees : Collections.emptySet();
+        List<String> singleCheckedEmployees = employees.stream()
+                .filter(employee -> !bulkCheckedEmployees.contains(employee))
+                .collect(Collectors.toList());
+
+        Map<String, RuntimeException> employeeFailures = new ConcurrentHashMap<>();
+
+        List<Runnable> checks = new ArrayList<>();
+        projectCodes.forEach(projectCode -> checks.add(() -> {
+            checkProjectExists(projectCode);
+            checkManagerAccess(loggedInUserUsername, projectCode);
+        }));
+        singleCheckedEmployees.forEach(employee -> checks.add(() -> {
+            if (confirmedEmployees.contains(employee)) {
+                checkUserExists(employee);
+            } else {
+                checkEmployeeExists(employee);
+            }
+        }));
+        if (!bulkCheckedEmployees.isEmpty()) {
+            checks.add(() -> employeeFailures.putAll(checkEmployeesExist(bulkCheckedEmployees)));
+        }
+
+        List<RuntimeException> checkFailures = parallelExecutor.collectFailures(checks);
+
+        Map<String, RuntimeException> projectFailures = new HashMap<>();
+
+        for (int i = 0; i < projectCodes.size(); i++) {
+            if (checkFailures.get(i) != null) {
+                projectFailures.put(projectCodes.get(i), checkFailures.get(i));
+            }
+        }
+
+        for (int i = 0; i < singleCheckedEmployees.size(); i++) {
+            if (checkFailures.get(projectCodes.size() + i) != null) {
+                employeeFailures.put(singleCheckedEmployees.get(i), checkFailures.get(projectCodes.size() + i));
+            }
+        }
+
+        if (!bulkCheckedEmployees.isEmpty() && checkFailures.get(checks.size() - 1) != null) {
+            bulkCheckedEmployees.forEach(employee -> employeeFailures.put(employee, checkFailures.get(checks.size() - 1)));
+        }
+
+        candidates.forEach(taskDTO -> {
+            if (projectFailures.containsKey(taskDTO.getProjectCode())) {
+                failures.put(taskDTO, projectFailures.get(taskDTO.getProjectCode()).getMessage());
+            } else if (employeeFailures.containsKey(taskDTO.getAssignedEmployee())) {
+                failures.put(taskDTO, employeeFailures.get(taskDTO.getAssignedEmployee()).getMessage());
+            }
         });
 
     }
 
     private void checkProjectExists(String projectCode) {
 
-        String accessToken = keycloakService.getAccessToken();
+        ProjectResponseDTO response = projectService.checkByProjectCode(projectCode);
 
-        ResponseEntity<ProjectResponseDTO> response = projectClient.checkByProjectCode(accessToken, projectCode);
-
-        if (!Objects.requireNonNull(response.getBody()).isSuccess()) {
+        if (!Objects.requireNonNull(response).isSuccess()) {
             throw new ProjectCheckFailedException("Project check is failed.");
         }
 
-        if (!Objects.requireNonNull(response.getBody()).getData().equals(true)) {
+        if (!response.getData().equals(true)) {
             throw new ProjectNotFoundException("Project does not exist.");
         }
 
@@ -225,24 +576,46 @@ public class TaskServiceImpl implements TaskService {
 
     private void checkEmployeeExists(String assignedEmployee) {
 
-        String accessToken = keycloakService.getAccessToken();
-
         if (!keycloakService.hasClientRole(assignedEmployee, "Employee")) {
             throw new EmployeeNotFoundException("User is not an employee.");
         }
 
-        ResponseEntity<UserResponseDTO> response = userClient.checkByUserName(accessToken, assignedEmployee);
+        checkUserExists(assignedEmployee);
+
+    }
+
+    private void checkUserExists(String assignedEmployee) {
+
+        UserResponseDTO response = userService.checkByUserName(assignedEmployee);
 
-        if (!Objects.requireNonNull(response.getBody()).isSuccess()) {
+        if (!Objects.requireNonNull(response).isSuccess()) {
             throw new EmployeeCheckFailedException("Employee check is failed.");
         }
 
-        if (!Objects.requireNonNull(response.getBody()).getData().equals(true)) {
+        if (!response.getData().equals(true)) {
             throw new EmployeeNotFoundException("Employee does not exist.");
         }
 
     }
 
+    private Map<String, RuntimeException> checkEmployeesExist(Collection<String> employees) {
+
+        Map<String, UserResponseDTO> responses = userService.checkByUserNames(employees);
+        Map<String, RuntimeException> employeeFailures = new HashMap<>();
+
+        employees.forEach(employee -> {
+            UserResponseDTO response = responses.get(employee);
+            if (response == null || !response.isSuccess()) {
+                employeeFailures.put(employee, new EmployeeCheckFailedException("Employee check is failed."));
+            } else if (!Boolean.TRUE.equals(response.getData())) {
+                employeeFailures.put(employee, new EmployeeNotFoundException("Employee does not exist."));
+            }
+        });
+
+        return employeeFailures;
+
+    }
+
     private void checkAccess(Task task) {
 
         String loggedInUserUsername = keycloakService.getUsername();
@@ -259,12 +632,10 @@ public class TaskServiceImpl implements TaskService {
 
     private void checkManagerAccess(String loggedInUserUsername, String projectCode) {
 
-        String accessToken = keycloakService.getAccessToken();
-
-        ResponseEntity<ProjectResponseDTO> response = projectClient.getManagerByProjectCode(accessToken, projectCode);
+        ProjectResponseDTO response = projectService.getManagerByProjectCode(projectCode);
 
-        if (Objects.requireNonNull(response.getBody()).isSuccess()) {
-            String taskManager = (String) response.getBody().getData();
+        if (Objects.requireNonNull(response).isSuccess()) {
+            String taskManager = (String) response.getData();
             if (!loggedInUserUsername.equals(taskManager)) {
                 throw new TaskAccessDeniedException("Access denied, make sure that you are working on your own project.");
             }
@@ -0,0 +1,150 @@
+package com.cydeo.service.impl;
+
+import com.cydeo.client.UserClient;
+import com.cydeo.dto.UserBatchCheckResponseDTO;
+import com.cydeo.dto.UserResponseDTO;
+import com.cydeo.service.KeycloakService;
+import com.cydeo.service.UserService;
+import com.cydeo.util.RequestMemo;
+import com.github.benmanes.caffeine.cache.Cache;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class UserServiceImpl implements UserService {
+
+    private static final String USER_SERVICE = "user-service";
+
+    private final UserClient userClient;
+    private final KeycloakService keycloakService;
+    private final Cache<String, UserResponseDTO> userCheckCache;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RequestMemo requestMemo;
+
+    private volatile boolean bulkCheckEnabled;
+
+    public UserServiceImpl(UserClient userClient, KeycloakService keycloakService, Cache<String, UserResponseDTO> userCheckCache,
+                           CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry, RequestMemo requestMemo,
+                           @Value("${clients.user-service.bulk-check-enabled:false}") boolean bulkCheckEnabled) {
+        this.userClient = userClient;
+        this.keycloakService = keycloakService;
+        this.userCheckCache = userCheckCache;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(USER_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(USER_SERVICE);
+        this.requestMemo = requestMemo;
+        this.bulkCheckEnabled = bulkCheckEnabled;
+    }
+
+    @Override
+    public UserResponseDTO checkByUserName(String userName) {
+        return requestMemo.get("userCheck", userName, () -> userCheckCache.get(userName, this::fetchUserCheck));
+    }
+
+    @Override
+    public Map<String, UserResponseDTO> checkByUserNames(Collection<String> userNames) {
+
+        Map<String, UserResponseDTO> results = new HashMap<>();
+        List<String> missingNames = new ArrayList<>();
+
+        userNames.forEach(userName -> {
+            UserResponseDTO memoized = requestMemo.getIfPresent("userCheck", userName);
+            if (memoized != null) {
+                results.put(userName, memoized);
+            } else {
+                missingNames.add(userName);
+            }
+        });
+
+        if (!missingNames.isEmpty()) {
+            Map<String, UserResponseDTO> fetched = userCheckCache.getAll(missingNames, this::fetchUserChecks);
+            fetched.forEach((userName, response) -> requestMemo.put("userCheck", userName, response));
+            results.putAll(fetched);
+        }
+
+        return results;
+
+    }
+
+    @Override
+    public boolean isBulkCheckEnabled() {
+        return bulkCheckEnabled;
+    }
+
+    @Override
+    public void evictUser(String userName) {
+        userCheckCache.invalidate(userName);
+        requestMemo.evict("userCheck", userName);
+    }
+
+    private UserResponseDTO fetchUserCheck(String userName) {
+        return call(() -> userClient.checkByUserName(keycloakService.getAccessToken(), userName).getBody());
+    }
+
+    private Map<String, UserResponseDTO> fetchUserChecks(Iterable<? extends String> userNames) {
+
+        List<String> names = new ArrayList<>();
+        userNames.forEach(names::add);
+
+        if (names.size() == 1 || !bulkCheckEnabled) {
+            return fetchUserChecksOneByOne(names);
+        }
+
+        UserBatchCheckResponseDTO response;
+
+        try {
+            response = call(() -> userClient.checkByUserNames(keycloakService.getAccessToken(), names).getBody());
+        } catch (FeignException.NotFound | FeignException.MethodNotAllowed exception) {
+            bulkCheckEnabled = false;
+            log.warn("Bulk user check is not supported by user-service, falling back to single checks: {}", exception.getMessage());
+            return fetchUserChecksOneByOne(names);
+        }
+
+        Set<String> requestedNames = new HashSet<>(names);
+        Map<String, UserResponseDTO> results = new HashMap<>();
+
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            return results;
+        }
+
+        response.getData().forEach((name, exists) -> {
+            if (exists != null && requestedNames.contains(name)) {
+                results.put(name, UserResponseDTO.builder()
+                        .success(true)
+                        .statusCode(response.getStatusCode())
+                        .message(response.getMessage())
+                        .data(exists)
+                        .build());
+            }
+        });
+
+        return results;
+
+    }
+
+    private Map<String, UserResponseDTO> fetchUserChecksOneByOne(List<String> names) {
+        Map<String, UserResponseDTO> results = new HashMap<>();
+        names.forEach(name -> {
+            UserResponseDTO response = fetchUserCheck(name);
+            if (response != null && response.isSuccess()) {
+                results.put(name, response);
+            }
+        });
+        return results;
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, supplier));
+    }
+
+}
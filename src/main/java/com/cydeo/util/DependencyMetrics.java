@@ -0,0 +1,71 @@
+package com.cydeo.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.function.Supplier;
+
+@Component
+public class DependencyMetrics {
+
+    public static final String DEPENDENCY_CALLS = "dependency.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    public DependencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String dependency, String operation, Supplier<T> call) {
+
+        Timer.Sample sample = start();
+        Throwable failure = null;
+
+        try {
+            return call.get();
+        } catch (RuntimeException exception) {
+            failure = exception;
+            throw exception;
+        } finally {
+            stop(sample, dependency, operation, failure);
+        }
+
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String dependency, String operation, Throwable failure) {
+        sample.stop(Timer.builder(DEPENDENCY_CALLS)
+                .description("Calls from task-service to downstream services and the database")
+                .tag("dependency", dependency)
+                .tag("operation", operation)
+                .tag("endpoint", currentEndpoint())
+                .tag("outcome", failure == null ? "SUCCESS" : "ERROR")
+                .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                .register(meterRegistry));
+    }
+
+    private String currentEndpoint() {
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return "none";
+        }
+
+        try {
+            Object pattern = requestAttributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            return pattern == null ? "none" : pattern.toString();
+        } catch (IllegalStateException exception) {
+            return "none";
+        }
+
+    }
+
+}
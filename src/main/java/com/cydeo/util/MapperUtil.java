@@ -1,21 +1,39 @@
 package com.cydeo.util;
 
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.entity.Task;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Type;
-
 @Component
 public class MapperUtil {
 
     private final ModelMapper modelMapper;
+    private final TaskMapper taskMapper;
 
-    public MapperUtil(ModelMapper modelMapper) {
+    public MapperUtil(ModelMapper modelMapper, TaskMapper taskMapper) {
         this.modelMapper = modelMapper;
+        this.taskMapper = taskMapper;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object objectToBeConverted, Class<T> convertedClass) {
+
+        if (convertedClass == TaskDTO.class && objectToBeConverted instanceof Task) {
+            return (T) taskMapper.toDto((Task) objectToBeConverted);
+        }
+
+        if (convertedClass == Task.class && objectToBeConverted instanceof TaskDTO) {
+            return (T) taskMapper.toEntity((TaskDTO) objectToBeConverted);
+        }
+
+        return modelMapper.map(objectToBeConverted, convertedClass);
+
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T convert(Object objectToBeConverted, T convertedObject) {
-        return modelMapper.map(objectToBeConverted, (Type) convertedObject.getClass());
+        return convert(objectToBeConverted, (Class<T>) convertedObject.getClass());
     }
 
 }
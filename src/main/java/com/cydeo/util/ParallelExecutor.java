@@ -0,0 +1,135 @@
+package com.cydeo.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+
+@Component
+public class ParallelExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public ParallelExecutor(@Value("${executor.validation.core-size:8}") int coreSize,
+                            @Value("${executor.validation.max-size:32}") int maxSize,
+                            @Value("${executor.validation.queue-capacity:100}") int queueCapacity) {
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("validation-");
+        executor.setTaskDecorator(this::propagateContext);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+    }
+
+    public void runAll(Runnable... tasks) {
+
+        CompletableFuture<?>[] futures = Arrays.stream(tasks)
+                .map(task -> CompletableFuture.runAsync(task, executor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        for (CompletableFuture<?> future : futures) {
+            future.whenComplete((result, exception) -> {
+                if (exception != null) {
+                    firstFailure.completeExceptionally(exception);
+                }
+            });
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures), firstFailure).join();
+        } catch (CompletionException exception) {
+            throw unwrap(exception);
+        }
+
+    }
+
+    public List<RuntimeException> collectFailures(List<Runnable> tasks) {
+
+        List<CompletableFuture<Void>> futures = tasks.stream()
+                .map(task -> CompletableFuture.runAsync(task, executor))
+                .collect(Collectors.toList());
+
+        List<RuntimeException> failures = new ArrayList<>();
+
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+                failures.add(null);
+            } catch (CompletionException exception) {
+                failures.add(unwrap(exception));
+            }
+        }
+
+        return failures;
+
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private Runnable propagateContext(Runnable task) {
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        return () -> {
+
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+
+            SecurityContextHolder.setContext(securityContext);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+
+            try {
+                task.run();
+            } finally {
+                SecurityContextHolder.setContext(previousSecurityContext);
+                RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+            }
+
+        };
+
+    }
+
+    private RuntimeException unwrap(Throwable exception) {
+
+        Throwable cause = exception;
+
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        return new IllegalStateException(cause);
+
+    }
+
+}
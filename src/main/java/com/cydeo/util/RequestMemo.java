@@ -0,0 +1,84 @@
+package com.cydeo.util;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class RequestMemo {
+
+    private static final String ATTRIBUTE = RequestMemo.class.getName();
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String namespace, String key, Supplier<T> loader) {
+
+        Map<String, Object> memo = getMemo();
+
+        if (memo == null) {
+            return loader.get();
+        }
+
+        String memoKey = namespace + ":" + key;
+        Object value = memo.get(memoKey);
+
+        if (value == null) {
+            value = loader.get();
+            if (value != null) {
+                Object existing = memo.putIfAbsent(memoKey, value);
+                value = existing != null ? existing : value;
+            }
+        }
+
+        return (T) value;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getIfPresent(String namespace, String key) {
+        Map<String, Object> memo = getMemo();
+        return memo == null ? null : (T) memo.get(namespace + ":" + key);
+    }
+
+    public void put(String namespace, String key, Object value) {
+        Map<String, Object> memo = getMemo();
+        if (memo != null && value != null) {
+            memo.put(namespace + ":" + key, value);
+        }
+    }
+
+    public void evict(String namespace, String key) {
+        Map<String, Object> memo = getMemo();
+        if (memo != null) {
+            memo.remove(namespace + ":" + key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getMemo() {
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return null;
+        }
+
+        synchronized (attributes) {
+            try {
+                Map<String, Object> memo = (Map<String, Object>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (memo == null) {
+                    memo = new ConcurrentHashMap<>();
+                    attributes.setAttribute(ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+                }
+                return memo;
+            } catch (IllegalStateException exception) {
+                return null;
+            }
+        }
+
+    }
+
+}
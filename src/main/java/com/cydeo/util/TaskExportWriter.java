@@ -0,0 +1,87 @@
+package com.cydeo.util;
+
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.enums.ExportFormat;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Component
+public class TaskExportWriter {
+
+    private static final String CSV_HEADER = "taskCode,taskSubject,taskDetail,taskStatus,assignedDate,projectCode,assignedEmployee";
+
+    private final ObjectWriter ndjsonWriter;
+
+    public TaskExportWriter(ObjectMapper objectMapper) {
+        this.ndjsonWriter = objectMapper.copy()
+                .addMixIn(TaskDTO.class, ExportedTask.class)
+                .writerFor(TaskDTO.class);
+    }
+
+    public void write(ExportFormat format, Stream<TaskDTO> tasks, OutputStream outputStream) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            tasks.forEach(task -> {
+                try {
+                    writer.write(format == ExportFormat.CSV ? toCsvLine(task) : ndjsonWriter.writeValueAsString(task));
+                    writer.write('\n');
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        writer.flush();
+
+    }
+
+    private String toCsvLine(TaskDTO task) {
+        return String.join(",",
+                csvValue(task.getTaskCode()),
+                csvValue(task.getTaskSubject()),
+                csvValue(task.getTaskDetail()),
+                csvValue(task.getTaskStatus()),
+                csvValue(task.getAssignedDate()),
+                csvValue(task.getProjectCode()),
+                csvValue(task.getAssignedEmployee()));
+    }
+
+    private String csvValue(Object value) {
+
+        String text = Objects.toString(value, "");
+
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+
+        return text;
+
+    }
+
+    private abstract static class ExportedTask {
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        @JsonProperty(access = JsonProperty.Access.READ_WRITE)
+        private LocalDate assignedDate;
+
+    }
+
+}
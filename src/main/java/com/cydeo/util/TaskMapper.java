@@ -0,0 +1,40 @@
+package com.cydeo.util;
+
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.entity.Task;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskMapper {
+
+    public TaskDTO toDto(Task task) {
+        return TaskDTO.builder()
+                .id(task.getId())
+                .taskCode(task.getTaskCode())
+                .taskSubject(task.getTaskSubject())
+                .taskDetail(task.getTaskDetail())
+                .taskStatus(task.getTaskStatus())
+                .assignedDate(task.getAssignedDate())
+                .projectCode(task.getProjectCode())
+                .assignedEmployee(task.getAssignedEmployee())
+                .build();
+    }
+
+    public Task toEntity(TaskDTO taskDTO) {
+
+        Task task = new Task();
+
+        task.setId(taskDTO.getId());
+        task.setTaskCode(taskDTO.getTaskCode());
+        task.setTaskSubject(taskDTO.getTaskSubject());
+        task.setTaskDetail(taskDTO.getTaskDetail());
+        task.setTaskStatus(taskDTO.getTaskStatus());
+        task.setAssignedDate(taskDTO.getAssignedDate());
+        task.setProjectCode(taskDTO.getProjectCode());
+        task.setAssignedEmployee(taskDTO.getAssignedEmployee());
+
+        return task;
+
+    }
+
+}
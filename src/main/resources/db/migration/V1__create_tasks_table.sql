@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS tasks
+(
+    id                    BIGSERIAL    NOT NULL,
+    insert_date_time      TIMESTAMP    NOT NULL,
+    insert_user_id        BIGINT       NOT NULL,
+    last_update_date_time TIMESTAMP    NOT NULL,
+    last_update_user_id   BIGINT       NOT NULL,
+    is_deleted            BOOLEAN,
+    task_code             VARCHAR(255) NOT NULL,
+    task_subject          VARCHAR(255),
+    task_detail           VARCHAR(255),
+    task_status           VARCHAR(255) NOT NULL,
+    assigned_date         DATE         NOT NULL,
+    project_code          VARCHAR(255) NOT NULL,
+    assigned_employee     VARCHAR(255) NOT NULL,
+    CONSTRAINT tasks_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_tasks_task_code UNIQUE (task_code)
+);
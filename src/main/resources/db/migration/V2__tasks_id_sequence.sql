@@ -0,0 +1,7 @@
+CREATE SEQUENCE IF NOT EXISTS task_seq INCREMENT BY 50;
+
+SELECT setval('task_seq', COALESCE((SELECT MAX(id) FROM tasks), 0) + 1, false);
+
+ALTER TABLE tasks ALTER COLUMN id DROP DEFAULT;
+
+DROP SEQUENCE IF EXISTS tasks_id_seq;
@@ -0,0 +1,27 @@
+CREATE INDEX IF NOT EXISTS ix_tasks_project_code_id
+    ON tasks (project_code, id) WHERE is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS ix_tasks_assigned_employee_task_status_id
+    ON tasks (assigned_employee, task_status, id) WHERE is_deleted = false;
+
+DO
+$$
+    DECLARE
+        task_code_constraint RECORD;
+    BEGIN
+        FOR task_code_constraint IN
+            SELECT con.conname
+            FROM pg_constraint con
+                     JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+            WHERE con.conrelid = 'tasks'::regclass
+              AND con.contype = 'u'
+              AND att.attname = 'task_code'
+              AND array_length(con.conkey, 1) = 1
+            LOOP
+                EXECUTE format('ALTER TABLE tasks DROP CONSTRAINT %I', task_code_constraint.conname);
+            END LOOP;
+    END
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_tasks_task_code_live
+    ON tasks (task_code) WHERE is_deleted = false;
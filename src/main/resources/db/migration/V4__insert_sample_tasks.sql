@@ -0,0 +1,562 @@
+INSERT INTO tasks(id, insert_date_time, insert_user_id, last_update_date_time, last_update_user_id, is_deleted,
+                  task_code, task_subject, task_detail, task_status, assigned_date, project_code, assigned_employee)
+VALUES (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS001', 'Spring Core - Task01',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS002', 'Spring Core - Task02',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS003', 'Spring Core - Task03',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS004', 'Spring Core - Task04',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS005', 'Spring Core - Task05',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS006', 'Spring Core - Task06',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS007', 'Spring Core - Task07',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS008', 'Spring Core - Task08',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS009', 'Spring Core - Task09',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS010', 'Spring Core - Task10',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS011', 'Spring Core - Task11',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS012', 'Spring Core - Task12',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS013', 'Spring Core - Task13',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS014', 'Spring Core - Task14',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS015', 'Spring Core - Task15',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP001', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS016', 'Spring Boot - Task16',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS017', 'Spring Boot - Task17',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS018', 'Spring Boot - Task18',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS019', 'Spring Boot - Task19',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS020', 'Spring Boot - Task20',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS021', 'Spring Boot - Task21',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS022', 'Spring Boot - Task22',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS023', 'Spring Boot - Task23',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS024', 'Spring Boot - Task24',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS025', 'Spring Boot - Task25',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS026', 'Spring Boot - Task26',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS027', 'Spring Boot - Task27',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS028', 'Spring Boot - Task28',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS029', 'Spring Boot - Task29',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS030', 'Spring Boot - Task30',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP002', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS031', 'Spring MVC - Task31',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP003', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS032', 'Spring MVC - Task32',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP003', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS033', 'Spring MVC - Task33',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP003', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS034', 'Spring MVC - Task34',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP003', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS035', 'Spring MVC - Task35',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP003', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS036', 'Spring MVC - Task36',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP003', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS037', 'Spring MVC - Task37',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP003', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS038', 'Spring MVC - Task38',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP003', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS039', 'Spring MVC - Task39',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP003', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS040', 'Spring MVC - Task40',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP003', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS041', 'Spring MVC - Task41',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP003', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS042', 'Spring MVC - Task42',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP003', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS043', 'Spring MVC - Task43',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP003', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS044', 'Spring MVC - Task44',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP003', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS045', 'Spring MVC - Task45',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP003', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS046', 'Spring Data - Task46',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS047', 'Spring Data - Task47',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS048', 'Spring Data - Task48',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS049', 'Spring Data - Task49',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS050', 'Spring Data - Task50',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS051', 'Spring Data - Task51',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS052', 'Spring Data - Task52',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS053', 'Spring Data - Task53',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS054', 'Spring Data - Task54',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS055', 'Spring Data - Task55',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS056', 'Spring Data - Task56',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS057', 'Spring Data - Task57',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS058', 'Spring Data - Task58',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS059', 'Spring Data - Task59',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS060', 'Spring Data - Task60',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP004', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS061', 'Spring Security - Task61',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS062', 'Spring Security - Task62',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS063', 'Spring Security - Task63',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS064', 'Spring Security - Task64',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS065', 'Spring Security - Task65',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS066', 'Spring Security - Task66',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS067', 'Spring Security - Task67',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS068', 'Spring Security - Task68',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS069', 'Spring Security - Task69',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS070', 'Spring Security - Task70',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS071', 'Spring Security - Task71',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS072', 'Spring Security - Task72',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS073', 'Spring Security - Task73',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS074', 'Spring Security - Task74',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS075', 'Spring Security - Task75',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP005', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS076', 'Spring REST - Task76',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP006', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS077', 'Spring REST - Task77',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP006', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS078', 'Spring REST - Task78',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP006', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS079', 'Spring REST - Task79',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP006', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS080', 'Spring REST - Task80',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP006', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS081', 'Spring REST - Task81',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP006', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS082', 'Spring REST - Task82',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP006', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS083', 'Spring REST - Task83',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP006', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS084', 'Spring REST - Task84',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP006', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS085', 'Spring REST - Task85',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP006', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS086', 'Spring REST - Task86',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP006', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS087', 'Spring REST - Task87',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP006', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS088', 'Spring REST - Task88',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP006', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS089', 'Spring REST - Task89',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP006', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS090', 'Spring REST - Task90',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP006', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS091', 'Spring REST Security - Task91',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP007', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS092', 'Spring REST Security - Task92',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP007', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS093', 'Spring REST Security - Task93',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP007', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS094', 'Spring REST Security - Task94',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP007', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS095', 'Spring REST Security - Task95',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP007', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS096', 'Spring REST Security - Task96',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP007', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS097', 'Spring REST Security - Task97',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP007', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS098', 'Spring REST Security - Task98',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP007', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS099', 'Spring REST Security - Task99',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP007', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS100', 'Spring REST Security - Task100',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP007', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS101', 'Spring REST Security - Task101',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP007', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS102', 'Spring REST Security - Task102',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP007', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS103', 'Spring REST Security - Task103',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP007', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS104', 'Spring REST Security - Task104',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP007', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS105', 'Spring REST Security - Task105',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP007', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS106', 'Spring AOP - Task106',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS107', 'Spring AOP - Task107',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS108', 'Spring AOP - Task108',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS109', 'Spring AOP - Task109',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS110', 'Spring AOP - Task110',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS111', 'Spring AOP - Task111',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS112', 'Spring AOP - Task112',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS113', 'Spring AOP - Task113',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS114', 'Spring AOP - Task114',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS115', 'Spring AOP - Task115',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS116', 'Spring AOP - Task116',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS117', 'Spring AOP - Task117',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS118', 'Spring AOP - Task118',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS119', 'Spring AOP - Task119',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS120', 'Spring AOP - Task120',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP008', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS121', 'Validation - Task121',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP009', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS122', 'Validation - Task122',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP009', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS123', 'Validation - Task123',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP009', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS124', 'Validation - Task124',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP009', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS125', 'Validation - Task125',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP009', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS126', 'Validation - Task126',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP009', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS127', 'Validation - Task127',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP009', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS128', 'Validation - Task128',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP009', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS129', 'Validation - Task129',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP009', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS130', 'Validation - Task130',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP009', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS131', 'Validation - Task131',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP009', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS132', 'Validation - Task132',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP009', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS133', 'Validation - Task133',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP009', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS134', 'Validation - Task134',
+        'Some important details about the task.', 'IN_PROGRESS', '2022-01-05', 'SP009', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS135', 'Validation - Task135',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP009', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS136', 'Thymeleaf - Task136',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS137', 'Thymeleaf - Task137',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS138', 'Thymeleaf - Task138',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS139', 'Thymeleaf - Task139',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS140', 'Thymeleaf - Task140',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS141', 'Thymeleaf - Task141',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS142', 'Thymeleaf - Task142',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS143', 'Thymeleaf - Task143',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS144', 'Thymeleaf - Task144',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS145', 'Thymeleaf - Task145',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS146', 'Thymeleaf - Task146',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS147', 'Thymeleaf - Task147',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS148', 'Thymeleaf - Task148',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS149', 'Thymeleaf - Task149',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS150', 'Thymeleaf - Task150',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP010', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS151', 'Logging - Task151',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS152', 'Logging - Task152',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS153', 'Logging - Task153',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS154', 'Logging - Task154',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS155', 'Logging - Task155',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS156', 'Logging - Task156',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS157', 'Logging - Task157',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS158', 'Logging - Task158',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS159', 'Logging - Task159',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS160', 'Logging - Task160',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS161', 'Logging - Task161',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS162', 'Logging - Task162',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS163', 'Logging - Task163',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS164', 'Logging - Task164',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS165', 'Logging - Task165',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP011', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS166', 'Spring API Consuming - Task166',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS167', 'Spring API Consuming - Task167',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS168', 'Spring API Consuming - Task168',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS169', 'Spring API Consuming - Task169',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS170', 'Spring API Consuming - Task170',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS171', 'Spring API Consuming - Task171',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS172', 'Spring API Consuming - Task172',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS173', 'Spring API Consuming - Task173',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS174', 'Spring API Consuming - Task174',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS175', 'Spring API Consuming - Task175',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS176', 'Spring API Consuming - Task176',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS177', 'Spring API Consuming - Task177',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS178', 'Spring API Consuming - Task178',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS179', 'Spring API Consuming - Task179',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS180', 'Spring API Consuming - Task180',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP012', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS181', 'Unit Testing - Task181',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS182', 'Unit Testing - Task182',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS183', 'Unit Testing - Task183',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS184', 'Unit Testing - Task184',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS185', 'Unit Testing - Task185',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS186', 'Unit Testing - Task186',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS187', 'Unit Testing - Task187',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS188', 'Unit Testing - Task188',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS189', 'Unit Testing - Task189',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS190', 'Unit Testing - Task190',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS191', 'Unit Testing - Task191',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS192', 'Unit Testing - Task192',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS193', 'Unit Testing - Task193',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS194', 'Unit Testing - Task194',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS195', 'Unit Testing - Task195',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP013', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS196', 'Integration Testing - Task196',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS197', 'Integration Testing - Task197',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS198', 'Integration Testing - Task198',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS199', 'Integration Testing - Task199',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS200', 'Integration Testing - Task200',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS201', 'Integration Testing - Task201',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS202', 'Integration Testing - Task202',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS203', 'Integration Testing - Task203',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS204', 'Integration Testing - Task204',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS205', 'Integration Testing - Task205',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS206', 'Integration Testing - Task206',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS207', 'Integration Testing - Task207',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS208', 'Integration Testing - Task208',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS209', 'Integration Testing - Task209',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS210', 'Integration Testing - Task210',
+        'Some important details about the task.', 'COMPLETED', '2022-01-05', 'SP014', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS211', 'Deployment - Task211',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS212', 'Deployment - Task212',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS213', 'Deployment - Task213',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS214', 'Deployment - Task214',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS215', 'Deployment - Task215',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS216', 'Deployment - Task216',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS217', 'Deployment - Task217',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS218', 'Deployment - Task218',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS219', 'Deployment - Task219',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS220', 'Deployment - Task220',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS221', 'Deployment - Task221',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS222', 'Deployment - Task222',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS223', 'Deployment - Task223',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS224', 'Deployment - Task224',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS225', 'Deployment - Task225',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP015', 'michellevega@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS226', 'Microservices - Task226',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS227', 'Microservices - Task227',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'lionelfusco@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS228', 'Microservices - Task228',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'lionelfusco@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS229', 'Microservices - Task229',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS230', 'Microservices - Task230',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'joselyncarter@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS231', 'Microservices - Task231',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'joselyncarter@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS232', 'Microservices - Task232',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS233', 'Microservices - Task233',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'carlelias@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS234', 'Microservices - Task234',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'carlelias@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS235', 'Microservices - Task235',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS236', 'Microservices - Task236',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'waynerigsby@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS237', 'Microservices - Task237',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'waynerigsby@email.com'),
+
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS238', 'Microservices - Task238',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS239', 'Microservices - Task239',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'michellevega@email.com'),
+       (nextval('task_seq'), '2022-01-05 00:00:00', 1, '2022-01-05 00:00:00', 1, false, 'TS240', 'Microservices - Task240',
+        'Some important details about the task.', 'OPEN', '2022-01-05', 'SP016', 'michellevega@email.com')
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS task_counters
+(
+    scope       VARCHAR(255) NOT NULL,
+    scope_key   VARCHAR(255) NOT NULL,
+    task_status VARCHAR(255) NOT NULL,
+    task_count  BIGINT       NOT NULL,
+    CONSTRAINT task_counters_pkey PRIMARY KEY (scope, scope_key, task_status)
+);
+
+INSERT INTO task_counters (scope, scope_key, task_status, task_count)
+SELECT 'PROJECT', project_code, task_status, COUNT(*)
+FROM tasks
+WHERE is_deleted = false
+GROUP BY project_code, task_status
+UNION ALL
+SELECT 'EMPLOYEE', assigned_employee, task_status, COUNT(*)
+FROM tasks
+WHERE is_deleted = false
+GROUP BY assigned_employee, task_status
+ON CONFLICT DO NOTHING;
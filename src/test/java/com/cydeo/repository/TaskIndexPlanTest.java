@@ -0,0 +1,105 @@
+package com.cydeo.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskIndexPlanTest {
+
+    private static final int PROJECTS = 200;
+    private static final int EMPLOYEES = 500;
+    private static final int TASKS = 50_000;
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void migrateAndSeed() throws IOException, SQLException {
+
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+
+        Flyway.configure().dataSource(dataSource).target("5").load().migrate();
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO tasks (id, insert_date_time, insert_user_id, last_update_date_time, last_update_user_id, " +
+                    "is_deleted, task_code, task_subject, task_detail, task_status, assigned_date, project_code, assigned_employee) " +
+                    "SELECT nextval('task_seq'), now(), 1, now(), 1, n % 20 = 0, 'T' || n, 'Subject ' || n, 'Detail ' || n, " +
+                    "(ARRAY['OPEN', 'IN_PROGRESS', 'COMPLETED'])[n % 3 + 1], current_date, " +
+                    "'P' || (n % " + PROJECTS + "), 'employee' || (n % " + EMPLOYEES + ") || '@cydeo.com' " +
+                    "FROM generate_series(1, " + TASKS + ") AS n");
+            statement.execute("ANALYZE tasks");
+        }
+
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void projectListingUsesProjectCodeIndex() throws SQLException {
+
+        String plan = explain("SELECT id, task_code, task_subject, task_detail, task_status, assigned_date, project_code, assigned_employee " +
+                "FROM tasks WHERE project_code = ? AND id > ? AND (is_deleted = false) ORDER BY id LIMIT ?", "P7", 0L, 51);
+
+        assertThat(plan).contains("ix_tasks_project_code_id");
+
+    }
+
+    @Test
+    void employeeStatusListingUsesEmployeeStatusIndex() throws SQLException {
+
+        String plan = explain("SELECT id, task_code, task_subject, task_detail, task_status, assigned_date, project_code, assigned_employee " +
+                "FROM tasks WHERE assigned_employee = ? AND task_status = ? AND id > ? AND (is_deleted = false) ORDER BY id LIMIT ?",
+                "employee7@cydeo.com", "OPEN", 0L, 51);
+
+        assertThat(plan).contains("ix_tasks_assigned_employee_task_status_id");
+
+    }
+
+    @Test
+    void taskCodeLookupUsesLiveTaskCodeIndex() throws SQLException {
+
+        String plan = explain("SELECT id, task_code, task_status, project_code, assigned_employee " +
+                "FROM tasks WHERE task_code = ? AND (is_deleted = false)", "T42");
+
+        assertThat(plan).contains("ux_tasks_task_code_live");
+
+    }
+
+    private String explain(String sql, Object... parameters) throws SQLException {
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.cydeo.service.impl;
+
+import com.cydeo.config.CacheConfig;
+import com.cydeo.config.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+final class CacheFixtures {
+
+    private CacheFixtures() {
+    }
+
+    static CacheConfig cacheConfig() {
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.setUserRolesTtl(Duration.ofMinutes(5));
+        cacheProperties.setUserRolesMaxSize(100);
+        cacheProperties.setProjectPositiveTtl(Duration.ofMinutes(10));
+        cacheProperties.setProjectNegativeTtl(Duration.ofSeconds(30));
+        cacheProperties.setProjectLastKnownTtl(Duration.ofHours(24));
+        cacheProperties.setProjectMaxSize(100);
+        cacheProperties.setUserCheckTtl(Duration.ofMinutes(5));
+        cacheProperties.setUserCheckNegativeTtl(Duration.ofSeconds(30));
+        cacheProperties.setUserCheckMaxSize(100);
+
+        return new CacheConfig(cacheProperties, new SimpleMeterRegistry());
+
+    }
+
+}
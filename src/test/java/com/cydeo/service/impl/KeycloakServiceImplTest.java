@@ -0,0 +1,153 @@
+package com.cydeo.service.impl;
+
+import com.cydeo.config.CacheConfig;
+import com.cydeo.config.KeycloakProperties;
+import com.cydeo.util.DependencyMetrics;
+import com.cydeo.util.RequestMemo;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.RoleResource;
+import org.keycloak.representations.idm.ClientRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeycloakServiceImplTest {
+
+    private static final String REALM = "cydeo-dev";
+    private static final String CLIENT_ID = "ticketing-app";
+    private static final String CLIENT_UUID = "ticketing-app-uuid";
+    private static final int PAGE_SIZE = 500;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Keycloak keycloak;
+
+    @Mock
+    private RoleResource roleResource;
+
+    private Cache<String, List<String>> userClientRolesCache;
+    private KeycloakServiceImpl keycloakService;
+
+    @BeforeEach
+    void setUp() {
+
+        ClientRepresentation client = new ClientRepresentation();
+        client.setId(CLIENT_UUID);
+        when(keycloak.realm(REALM).clients().findByClientId(CLIENT_ID)).thenReturn(List.of(client));
+        when(keycloak.realm(REALM).clients().get(CLIENT_UUID).roles().get("Employee")).thenReturn(roleResource);
+
+        KeycloakProperties keycloakProperties = new KeycloakProperties();
+        keycloakProperties.setRealm(REALM);
+        keycloakProperties.setClientId(CLIENT_ID);
+
+        CacheConfig cacheConfig = CacheFixtures.cacheConfig();
+        userClientRolesCache = cacheConfig.userClientRolesCache();
+
+        keycloakService = new KeycloakServiceImpl(keycloakProperties, keycloak, userClientRolesCache,
+                cacheConfig.clientRoleMembersCache(), new DependencyMetrics(new SimpleMeterRegistry()), new RequestMemo());
+        keycloakService.refreshClientUuid();
+
+    }
+
+    @Test
+    void stopsScanningRoleMembersAfterMaxPages() {
+
+        when(roleResource.getRoleUserMembers(anyInt(), eq(PAGE_SIZE)))
+                .thenAnswer(invocation -> page(invocation.getArgument(0)));
+
+        Set<String> employees = keycloakService.filterByClientRole(List.of("alice", "bob"), "Employee");
+
+        assertThat(employees).isEmpty();
+        verify(roleResource, times(4)).getRoleUserMembers(anyInt(), eq(PAGE_SIZE));
+        verify(roleResource, never()).getRoleUserMembers(eq(4 * PAGE_SIZE), eq(PAGE_SIZE));
+
+    }
+
+    @Test
+    void stopsScanningOnceAllUsersAreFound() {
+
+        when(roleResource.getRoleUserMembers(0, PAGE_SIZE)).thenReturn(page(0, "alice", "bob"));
+
+        Set<String> employees = keycloakService.filterByClientRole(List.of("alice", "bob"), "Employee");
+
+        assertThat(employees).containsExactlyInAnyOrder("alice", "bob");
+        verify(roleResource, times(1)).getRoleUserMembers(anyInt(), anyInt());
+
+    }
+
+    @Test
+    void stopsScanningOnShortPage() {
+
+        when(roleResource.getRoleUserMembers(0, PAGE_SIZE)).thenReturn(users(List.of("alice", "carol")));
+
+        Set<String> employees = keycloakService.filterByClientRole(List.of("alice", "bob"), "Employee");
+
+        assertThat(employees).containsExactly("alice");
+        verify(roleResource, times(1)).getRoleUserMembers(anyInt(), anyInt());
+
+    }
+
+    @Test
+    void confirmedMembersAreCachedAcrossCalls() {
+
+        when(roleResource.getRoleUserMembers(0, PAGE_SIZE)).thenReturn(page(0, "alice", "bob"));
+
+        keycloakService.filterByClientRole(List.of("alice", "bob"), "Employee");
+        Set<String> employees = keycloakService.filterByClientRole(List.of("alice", "bob"), "Employee");
+
+        assertThat(employees).containsExactlyInAnyOrder("alice", "bob");
+        verify(roleResource, times(1)).getRoleUserMembers(anyInt(), anyInt());
+
+    }
+
+    @Test
+    void usesCachedClientRolesWithoutScanning() {
+
+        userClientRolesCache.put("alice", List.of("Employee"));
+        userClientRolesCache.put("bob", List.of("Manager"));
+
+        Set<String> employees = keycloakService.filterByClientRole(List.of("alice", "bob"), "Employee");
+
+        assertThat(employees).containsExactly("alice");
+        verify(roleResource, never()).getRoleUserMembers(anyInt(), anyInt());
+
+    }
+
+    private static Set<UserRepresentation> page(int first, String... members) {
+        List<String> usernames = IntStream.range(members.length, PAGE_SIZE)
+                .mapToObj(i -> "user" + (first + i))
+                .collect(Collectors.toList());
+        usernames.addAll(List.of(members));
+        return users(usernames);
+    }
+
+    private static Set<UserRepresentation> users(List<String> usernames) {
+        return usernames.stream()
+                .map(username -> {
+                    UserRepresentation user = new UserRepresentation();
+                    user.setUsername(username);
+                    return user;
+                })
+                .collect(Collectors.toSet());
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.cydeo.service.impl;
+
+import com.cydeo.entity.TaskCounter;
+import com.cydeo.enums.Status;
+import com.cydeo.repository.TaskCounterRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskCounterServiceImplTest {
+
+    @Configuration
+    @EntityScan(basePackageClasses = TaskCounter.class)
+    @EnableJpaRepositories(basePackageClasses = TaskCounterRepository.class)
+    static class Config {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+            return embeddedPostgres.getPostgresDatabase();
+        }
+
+    }
+
+    @Autowired
+    private TaskCounterRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TaskCounterRepository taskCounterRepository;
+    private TaskCounterServiceImpl taskCounterService;
+
+    @BeforeEach
+    void setUp() {
+        taskCounterRepository = mock(TaskCounterRepository.class, delegatesTo(repository));
+        taskCounterService = new TaskCounterServiceImpl(taskCounterRepository);
+    }
+
+    @Test
+    void moveWithoutChangesNetsDeltaToZero() {
+
+        taskCounterService.move("PR001", "alice@cydeo.com", Status.OPEN, "PR001", "alice@cydeo.com", Status.OPEN);
+
+        verify(taskCounterRepository, never()).add(anyString(), anyString(), anyString(), anyLong());
+        assertThat(counterRows("PR001", "alice@cydeo.com")).isZero();
+
+    }
+
+    @Test
+    void moveShiftsOnlyChangedCounters() {
+
+        taskCounterService.add("PR001", "alice@cydeo.com", Status.OPEN, 2);
+
+        taskCounterService.move("PR001", "alice@cydeo.com", Status.OPEN, "PR001", "alice@cydeo.com", Status.IN_PROGRESS);
+
+        assertThat(count("PROJECT", "PR001", Status.OPEN)).isEqualTo(1);
+        assertThat(count("PROJECT", "PR001", Status.IN_PROGRESS)).isEqualTo(1);
+        assertThat(count("EMPLOYEE", "alice@cydeo.com", Status.OPEN)).isEqualTo(1);
+        assertThat(count("EMPLOYEE", "alice@cydeo.com", Status.IN_PROGRESS)).isEqualTo(1);
+
+    }
+
+    @Test
+    void appliesDeltasInLockOrder() {
+
+        taskCounterService.move("PR002", "bob@cydeo.com", Status.COMPLETED, "PR001", "alice@cydeo.com", Status.OPEN);
+
+        InOrder lockOrder = inOrder(taskCounterRepository);
+        lockOrder.verify(taskCounterRepository).add("PROJECT", "PR001", "OPEN", 1L);
+        lockOrder.verify(taskCounterRepository).add("PROJECT", "PR002", "COMPLETED", -1L);
+        lockOrder.verify(taskCounterRepository).add("EMPLOYEE", "alice@cydeo.com", "OPEN", 1L);
+        lockOrder.verify(taskCounterRepository).add("EMPLOYEE", "bob@cydeo.com", "COMPLETED", -1L);
+        lockOrder.verifyNoMoreInteractions();
+
+    }
+
+    @Test
+    void recalculateProjectRebuildsOnlyThatProject() {
+
+        insertTask("PR001-1", "PR001", "alice@cydeo.com", Status.OPEN);
+        insertTask("PR001-2", "PR001", "alice@cydeo.com", Status.OPEN);
+        insertTask("PR001-3", "PR001", "bob@cydeo.com", Status.COMPLETED);
+        insertTask("PR002-1", "PR002", "carol@cydeo.com", Status.OPEN);
+        taskCounterService.add("PR001", "alice@cydeo.com", Status.OPEN, 7);
+        taskCounterService.add("PR002", "carol@cydeo.com", Status.OPEN, 7);
+
+        taskCounterService.recalculateProject("PR001");
+
+        assertThat(count("PROJECT", "PR001", Status.OPEN)).isEqualTo(2);
+        assertThat(count("PROJECT", "PR001", Status.COMPLETED)).isEqualTo(1);
+        assertThat(count("EMPLOYEE", "alice@cydeo.com", Status.OPEN)).isEqualTo(2);
+        assertThat(count("EMPLOYEE", "bob@cydeo.com", Status.COMPLETED)).isEqualTo(1);
+        assertThat(count("PROJECT", "PR002", Status.OPEN)).isEqualTo(7);
+        assertThat(count("EMPLOYEE", "carol@cydeo.com", Status.OPEN)).isEqualTo(7);
+
+    }
+
+    @Test
+    void reconcileRepairsDriftedOrphanedAndMissingCounters() {
+
+        insertTask("PR001-1", "PR001", "alice@cydeo.com", Status.OPEN);
+        insertTask("PR001-2", "PR001", "alice@cydeo.com", Status.IN_PROGRESS);
+        taskCounterService.add("PR001", "alice@cydeo.com", Status.OPEN, 5);
+        taskCounterService.add("PR009", "zed@cydeo.com", Status.COMPLETED, 3);
+
+        taskCounterService.reconcile();
+
+        assertThat(count("PROJECT", "PR001", Status.OPEN)).isEqualTo(1);
+        assertThat(count("EMPLOYEE", "alice@cydeo.com", Status.OPEN)).isEqualTo(1);
+        assertThat(count("PROJECT", "PR009", Status.COMPLETED)).isZero();
+        assertThat(count("EMPLOYEE", "zed@cydeo.com", Status.COMPLETED)).isZero();
+        assertThat(count("PROJECT", "PR001", Status.IN_PROGRESS)).isEqualTo(1);
+        assertThat(count("EMPLOYEE", "alice@cydeo.com", Status.IN_PROGRESS)).isEqualTo(1);
+        assertThat(driftedCounters()).isZero();
+
+    }
+
+    private void insertTask(String taskCode, String projectCode, String assignedEmployee, Status status) {
+        jdbcTemplate.update("INSERT INTO tasks (id, insert_date_time, insert_user_id, last_update_date_time, last_update_user_id, " +
+                "is_deleted, task_code, task_subject, task_status, assigned_date, project_code, assigned_employee) " +
+                "VALUES (nextval('task_seq'), now(), 1, now(), 1, false, ?, 'Subject', ?, current_date, ?, ?)",
+                taskCode, status.name(), projectCode, assignedEmployee);
+    }
+
+    private long count(String scope, String scopeKey, Status status) {
+        List<Long> counts = jdbcTemplate.queryForList("SELECT task_count FROM task_counters " +
+                "WHERE scope = ? AND scope_key = ? AND task_status = ?", Long.class, scope, scopeKey, status.name());
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    private int counterRows(String projectCode, String assignedEmployee) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_counters " +
+                "WHERE (scope = 'PROJECT' AND scope_key = ?) OR (scope = 'EMPLOYEE' AND scope_key = ?)",
+                Integer.class, projectCode, assignedEmployee);
+    }
+
+    private int driftedCounters() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + TaskCounterRepository.LIVE_COUNTS + ") a " +
+                "FULL JOIN task_counters c ON c.scope = a.scope AND c.scope_key = a.scope_key AND c.task_status = a.task_status " +
+                "WHERE COALESCE(a.task_count, 0) <> COALESCE(c.task_count, 0)", Integer.class);
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.cydeo.service.impl;
+
+import com.cydeo.config.BatchProperties;
+import com.cydeo.config.PaginationProperties;
+import com.cydeo.dto.ProjectResponseDTO;
+import com.cydeo.dto.TaskBatchResultDTO;
+import com.cydeo.dto.TaskDTO;
+import com.cydeo.dto.UserResponseDTO;
+import com.cydeo.exception.EmployeeCheckFailedException;
+import com.cydeo.repository.TaskRepository;
+import com.cydeo.service.KeycloakService;
+import com.cydeo.service.ProjectService;
+import com.cydeo.service.TaskCounterService;
+import com.cydeo.service.UserService;
+import com.cydeo.util.MapperUtil;
+import com.cydeo.util.ParallelExecutor;
+import com.cydeo.util.TaskExportWriter;
+import com.cydeo.util.TaskMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.validation.Validation;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceImplTest {
+
+    private static final String MANAGER = "manager@cydeo.com";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private KeycloakService keycloakService;
+
+    @Mock
+    private TaskCounterService taskCounterService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ParallelExecutor parallelExecutor;
+    private TaskServiceImpl taskService;
+
+    @BeforeEach
+    void setUp() {
+
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setCreateMaxSize(100);
+
+        parallelExecutor = new ParallelExecutor(4, 8, 100);
+
+        taskService = new TaskServiceImpl(taskRepository, new MapperUtil(new ModelMapper(), new TaskMapper()),
+                projectService, userService, keycloakService, parallelExecutor,
+                Validation.buildDefaultValidatorFactory().getValidator(), new PaginationProperties(), batchProperties,
+                new TaskExportWriter(new ObjectMapper()), transactionManager, taskCounterService, true);
+
+        when(keycloakService.getUsername()).thenReturn(MANAGER);
+        when(taskRepository.findExistingTaskCodes(anyCollection())).thenReturn(List.of());
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        when(projectService.checkByProjectCode("PR001")).thenReturn(ProjectResponseDTO.builder().success(true).data(true).build());
+        when(projectService.checkByProjectCode("PR002")).thenReturn(ProjectResponseDTO.builder().success(true).data(false).build());
+        when(projectService.getManagerByProjectCode("PR001")).thenReturn(ProjectResponseDTO.builder().success(true).data(MANAGER).build());
+
+        when(keycloakService.filterByClientRole(anyCollection(), any())).thenReturn(Set.of("alice", "bob", "carol"));
+        when(keycloakService.hasClientRole("dave", "Employee")).thenReturn(false);
+
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelExecutor.shutdown();
+    }
+
+    @Test
+    void mapsBulkCheckAnswersToEachTask() {
+
+        when(userService.isBulkCheckEnabled()).thenReturn(true);
+        when(userService.checkByUserNames(anyCollection())).thenReturn(Map.of(
+                "alice", UserResponseDTO.builder().success(true).data(true).build(),
+                "bob", UserResponseDTO.builder().success(true).data(false).build()));
+
+        Map<String, TaskBatchResultDTO> results = createAll();
+
+        assertSucceeded(results.get("T0001"));
+        assertFailed(results.get("T0002"), "Project does not exist.");
+        assertFailed(results.get("T0003"), "Employee does not exist.");
+        assertFailed(results.get("T0004"), "Employee check is failed.");
+        assertFailed(results.get("T0005"), "User is not an employee.");
+        verify(userService, never()).checkByUserName(any());
+
+    }
+
+    @Test
+    void failsEveryBulkCheckedTaskWhenBulkCheckFails() {
+
+        when(userService.isBulkCheckEnabled()).thenReturn(true);
+        when(userService.checkByUserNames(anyCollection())).thenThrow(new EmployeeCheckFailedException("User service is unavailable."));
+
+        Map<String, TaskBatchResultDTO> results = createAll();
+
+        assertFailed(results.get("T0001"), "User service is unavailable.");
+        assertFailed(results.get("T0002"), "Project does not exist.");
+        assertFailed(results.get("T0003"), "User service is unavailable.");
+        assertFailed(results.get("T0004"), "User service is unavailable.");
+        assertFailed(results.get("T0005"), "User is not an employee.");
+
+    }
+
+    @Test
+    void checksConfirmedEmployeesOneByOneWhenBulkCheckIsDisabled() {
+
+        when(userService.isBulkCheckEnabled()).thenReturn(false);
+        when(userService.checkByUserName("alice")).thenReturn(UserResponseDTO.builder().success(true).data(true).build());
+        when(userService.checkByUserName("bob")).thenReturn(UserResponseDTO.builder().success(true).data(false).build());
+        when(userService.checkByUserName("carol")).thenReturn(UserResponseDTO.builder().success(false).build());
+
+        Map<String, TaskBatchResultDTO> results = createAll();
+
+        assertSucceeded(results.get("T0001"));
+        assertFailed(results.get("T0002"), "Project does not exist.");
+        assertFailed(results.get("T0003"), "Employee does not exist.");
+        assertFailed(results.get("T0004"), "Employee check is failed.");
+        assertFailed(results.get("T0005"), "User is not an employee.");
+        verify(userService, never()).checkByUserNames(any());
+
+    }
+
+    private Map<String, TaskBatchResultDTO> createAll() {
+
+        List<TaskBatchResultDTO> results = taskService.createAll(List.of(
+                task("T0001", "PR001", "alice"),
+                task("T0002", "PR002", "alice"),
+                task("T0003", "PR001", "bob"),
+                task("T0004", "PR001", "carol"),
+                task("T0005", "PR001", "dave")));
+
+        return results.stream().collect(Collectors.toMap(TaskBatchResultDTO::getTaskCode, result -> result));
+
+    }
+
+    private static TaskDTO task(String taskCode, String projectCode, String assignedEmployee) {
+        return TaskDTO.builder()
+                .taskCode(taskCode)
+                .taskSubject("Subject")
+                .projectCode(projectCode)
+                .assignedEmployee(assignedEmployee)
+                .build();
+    }
+
+    private static void assertSucceeded(TaskBatchResultDTO result) {
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getData().getTaskCode()).isEqualTo(result.getTaskCode());
+    }
+
+    private static void assertFailed(TaskBatchResultDTO result, String message) {
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getMessage()).isEqualTo(message);
+    }
+
+}
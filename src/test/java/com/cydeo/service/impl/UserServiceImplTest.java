@@ -0,0 +1,142 @@
+package com.cydeo.service.impl;
+
+import com.cydeo.client.UserClient;
+import com.cydeo.config.CacheConfig;
+import com.cydeo.dto.UserBatchCheckResponseDTO;
+import com.cydeo.dto.UserResponseDTO;
+import com.cydeo.service.KeycloakService;
+import com.cydeo.util.RequestMemo;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    private static final String TOKEN = "Bearer token";
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private KeycloakService keycloakService;
+
+    private CacheConfig cacheConfig;
+
+    @BeforeEach
+    void setUp() {
+        when(keycloakService.getAccessToken()).thenReturn(TOKEN);
+        cacheConfig = CacheFixtures.cacheConfig();
+    }
+
+    @Test
+    void bulkCheckMapsAnsweredNamesAndSkipsUnansweredOnes() {
+
+        UserServiceImpl userService = userService(true);
+        when(userClient.checkByUserNames(eq(TOKEN), anyList())).thenReturn(ResponseEntity.ok(
+                UserBatchCheckResponseDTO.builder().success(true).data(Map.of("alice", true, "bob", false)).build()));
+
+        Map<String, UserResponseDTO> responses = userService.checkByUserNames(List.of("alice", "bob", "carol"));
+
+        assertThat(responses).containsOnlyKeys("alice", "bob");
+        assertThat(responses.get("alice").getData()).isEqualTo(true);
+        assertThat(responses.get("bob").getData()).isEqualTo(false);
+        assertThat(userService.isBulkCheckEnabled()).isTrue();
+        verify(userClient, never()).checkByUserName(anyString(), anyString());
+
+    }
+
+    @Test
+    void bulkCheckAnswersAreCached() {
+
+        UserServiceImpl userService = userService(true);
+        when(userClient.checkByUserNames(eq(TOKEN), anyList())).thenReturn(ResponseEntity.ok(
+                UserBatchCheckResponseDTO.builder().success(true).data(Map.of("alice", true, "bob", true)).build()));
+
+        userService.checkByUserNames(List.of("alice", "bob"));
+        Map<String, UserResponseDTO> responses = userService.checkByUserNames(List.of("alice", "bob"));
+
+        assertThat(responses).containsOnlyKeys("alice", "bob");
+        verify(userClient, times(1)).checkByUserNames(anyString(), anyList());
+
+    }
+
+    @Test
+    void fallsBackToSingleChecksWhenBulkEndpointIsNotFound() {
+        assertFallsBackToSingleChecks(new FeignException.NotFound("Not Found", bulkRequest(), null));
+    }
+
+    @Test
+    void fallsBackToSingleChecksWhenBulkMethodIsNotAllowed() {
+        assertFallsBackToSingleChecks(new FeignException.MethodNotAllowed("Method Not Allowed", bulkRequest(), null));
+    }
+
+    @Test
+    void doesNotCallBulkEndpointWhenDisabled() {
+
+        UserServiceImpl userService = userService(false);
+        when(userClient.checkByUserName(TOKEN, "alice")).thenReturn(ResponseEntity.ok(positive()));
+        when(userClient.checkByUserName(TOKEN, "bob")).thenReturn(ResponseEntity.ok(positive()));
+
+        assertThat(userService.checkByUserNames(List.of("alice", "bob"))).containsOnlyKeys("alice", "bob");
+        verify(userClient, never()).checkByUserNames(anyString(), anyList());
+
+    }
+
+    private void assertFallsBackToSingleChecks(FeignException exception) {
+
+        UserServiceImpl userService = userService(true);
+        when(userClient.checkByUserNames(eq(TOKEN), anyList())).thenThrow(exception);
+        when(userClient.checkByUserName(TOKEN, "alice")).thenReturn(ResponseEntity.ok(positive()));
+        when(userClient.checkByUserName(TOKEN, "bob")).thenReturn(ResponseEntity.ok(
+                UserResponseDTO.builder().success(false).build()));
+
+        Map<String, UserResponseDTO> responses = userService.checkByUserNames(List.of("alice", "bob"));
+
+        assertThat(responses).containsOnlyKeys("alice");
+        assertThat(userService.isBulkCheckEnabled()).isFalse();
+
+        when(userClient.checkByUserName(TOKEN, "carol")).thenReturn(ResponseEntity.ok(positive()));
+        when(userClient.checkByUserName(TOKEN, "dave")).thenReturn(ResponseEntity.ok(positive()));
+
+        assertThat(userService.checkByUserNames(List.of("carol", "dave"))).containsOnlyKeys("carol", "dave");
+        verify(userClient, times(1)).checkByUserNames(anyString(), anyList());
+
+    }
+
+    private UserServiceImpl userService(boolean bulkCheckEnabled) {
+        return new UserServiceImpl(userClient, keycloakService, cacheConfig.userCheckCache(),
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new RequestMemo(), bulkCheckEnabled);
+    }
+
+    private static UserResponseDTO positive() {
+        return UserResponseDTO.builder().success(true).data(true).build();
+    }
+
+    private static Request bulkRequest() {
+        return Request.create(Request.HttpMethod.POST, "/api/v1/user/check", Collections.emptyMap(), null,
+                StandardCharsets.UTF_8, null);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.cydeo.util;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DependencyMetrics dependencyMetrics;
+    private ServletRequestAttributes requestAttributes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dependencyMetrics = new DependencyMetrics(meterRegistry);
+        requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        requestAttributes.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/task/{taskCode}", RequestAttributes.SCOPE_REQUEST);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void tagsCallWithMatchedEndpointWhileRequestIsActive() {
+
+        String result = dependencyMetrics.record("user-service", "UserClient.checkByUserName", () -> "found");
+
+        assertThat(result).isEqualTo("found");
+        assertThat(recordedCount("/api/v1/task/{taskCode}")).isEqualTo(1);
+
+    }
+
+    @Test
+    void keepsResultAndSampleWhenRequestCompletesBeforeCallReturns() {
+
+        String result = dependencyMetrics.record("user-service", "UserClient.checkByUserName", () -> {
+            requestAttributes.requestCompleted();
+            return "found";
+        });
+
+        assertThat(result).isEqualTo("found");
+        assertThat(recordedCount("none")).isEqualTo(1);
+
+    }
+
+    @Test
+    void stopAfterRequestCompletedRecordsSample() {
+
+        Timer.Sample sample = dependencyMetrics.start();
+        requestAttributes.requestCompleted();
+
+        dependencyMetrics.stop(sample, "database", "TaskRepository.findById", null);
+
+        assertThat(recordedCount("none")).isEqualTo(1);
+
+    }
+
+    private long recordedCount(String endpoint) {
+        Timer timer = meterRegistry.find(DependencyMetrics.DEPENDENCY_CALLS).tag("endpoint", endpoint).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+}